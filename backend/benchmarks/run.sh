@@ -0,0 +1,16 @@
+#!/usr/bin/env bash
+# Builds the backend and the JMH benchmarks, runs them and writes machine-readable results to
+# benchmarks/results/jmh-<timestamp>.json. Extra arguments go to JMH, e.g. a benchmark regex:
+#
+#   ./benchmarks/run.sh                          # everything
+#   ./benchmarks/run.sh Jwt -prof gc             # JWT benchmarks with allocation rates
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RESULTS=benchmarks/results
+mkdir -p "$RESULTS"
+
+mvn -q -B -DskipTests install
+mvn -q -B -f benchmarks/pom.xml package
+
+java -jar benchmarks/target/benchmarks.jar -rf json -rff "$RESULTS/jmh-$(date +%Y%m%d-%H%M%S).json" "$@"
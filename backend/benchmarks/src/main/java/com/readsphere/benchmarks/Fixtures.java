@@ -0,0 +1,165 @@
+package com.readsphere.benchmarks;
+
+import com.readsphere.dto.PublicationResponse;
+import com.readsphere.dto.ReviewResponse;
+import com.readsphere.model.Publication;
+import com.readsphere.model.PublicationType;
+import com.readsphere.model.Review;
+import com.readsphere.model.ReviewStatus;
+import com.readsphere.model.User;
+import com.readsphere.model.UserRole;
+import com.readsphere.model.UserSubscription;
+import com.readsphere.security.JwtAuthenticationFilter;
+import com.readsphere.security.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+// Builds the beans under test the way Spring would (field injection + @PostConstruct) and sample data
+final class Fixtures {
+
+    static final String JWT_SECRET = "ReadSphereSecretKeyForJWTAuthenticationAndAuthorization2024";
+
+    private static final String[] WORDS = {
+            "the", "editorial", "argues", "that", "city", "council", "should", "reconsider", "its", "transit",
+            "budget", "before", "winter", "and", "readers", "will", "find", "interviews", "with", "local",
+            "commuters", "illuminating", "although", "some", "figures", "seem", "outdated", "overall", "a",
+            "thoughtful", "piece", "worth", "reading", "twice"
+    };
+
+    private Fixtures() {
+    }
+
+    static JwtUtil jwtUtil(int cacheMaxSize) {
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", JWT_SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86_400_000L);
+        ReflectionTestUtils.setField(jwtUtil, "cacheMaxSize", cacheMaxSize);
+        ReflectionTestUtils.invokeMethod(jwtUtil, "init");
+        return jwtUtil;
+    }
+
+    // Stateless mode only: "database" mode needs a UserRepository and measures the database, not the filter
+    static JwtAuthenticationFilter statelessFilter(JwtUtil jwtUtil) {
+        JwtAuthenticationFilter filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "meterRegistry", new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(filter, "authMode", "stateless");
+        ReflectionTestUtils.setField(filter, "principalCacheTtlMs", 30_000L);
+        ReflectionTestUtils.setField(filter, "principalCacheMaxSize", 1000);
+        ReflectionTestUtils.invokeMethod(filter, "initAuthMode");
+        return filter;
+    }
+
+    // Review-like prose of roughly the requested length, ending every 12-20 words in a sentence mark
+    static String reviewText(int length, long seed) {
+        Random random = new Random(seed);
+        StringBuilder text = new StringBuilder(length + 32);
+        int untilSentenceEnd = 12 + random.nextInt(9);
+        boolean capitalize = true;
+        while (text.length() < length) {
+            String word = WORDS[random.nextInt(WORDS.length)];
+            text.append(capitalize ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+            capitalize = false;
+            if (--untilSentenceEnd == 0) {
+                text.append(random.nextInt(10) == 0 ? "! " : ". ");
+                untilSentenceEnd = 12 + random.nextInt(9);
+                capitalize = true;
+            } else {
+                text.append(random.nextInt(15) == 0 ? ", " : " ");
+            }
+        }
+        return text.toString();
+    }
+
+    // -Djdbc.url / jdbc.user / jdbc.password, defaulting to the local database from application.properties
+    static Connection jdbcConnection(String driverOptions) throws SQLException {
+        String url = System.getProperty("jdbc.url", "jdbc:postgresql://localhost:5432/readsphere");
+        return DriverManager.getConnection(url + (url.contains("?") ? "&" : "?") + driverOptions,
+                System.getProperty("jdbc.user", "postgres"), System.getProperty("jdbc.password", "postgres"));
+    }
+
+    static User user(long id) {
+        User user = new User();
+        user.setId(id);
+        user.setUsername("reader" + id);
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BWX4Z1eTJ4nU7uK0vV3dQ0k5sW1e");
+        user.setEmail("reader" + id + "@example.com");
+        user.setFirstName("Alex");
+        user.setLastName("Reader");
+        user.setMiddleInitial("J");
+        user.setAddress(id + " Main Street, Springfield");
+        user.setCardNumber("4111111111111111");
+        user.setExpiryDate("12/29");
+        user.setCvv("123");
+        user.setNameOnCard("Alex J Reader");
+        user.setPoints((int) (id * 37 % 5000));
+        user.setRole(UserRole.USER);
+        return user;
+    }
+
+    static Publication publication(long id) {
+        Publication publication = new Publication();
+        publication.setId(id);
+        publication.setTitle("Publication " + id);
+        publication.setType(id % 2 == 0 ? PublicationType.MAGAZINE : PublicationType.NEWSPAPER);
+        publication.setDescription(reviewText(240, id));
+        publication.setPrice(9.99 + id % 40);
+        publication.setImage("/images/publication-" + id + ".jpg");
+        publication.setIssuesPerYear(id % 2 == 0 ? 12 : 365);
+        publication.setCity(id % 2 == 0 ? null : "Springfield");
+        publication.setCategory("Category " + id % 12);
+        publication.setRating((id % 50) / 10.0);
+        publication.setReviewCount((int) (id % 200));
+        publication.setFeatured(id % 25 == 0);
+        return publication;
+    }
+
+    static Review review(long id, User user, Publication publication) {
+        UserSubscription subscription = new UserSubscription();
+        subscription.setId(id);
+        subscription.setUser(user);
+        subscription.setPublication(publication);
+
+        Review review = new Review();
+        review.setId(id);
+        review.setUser(user);
+        review.setSubscription(subscription);
+        review.setPublication(publication);
+        review.setIssueNumber("Issue " + id % 52);
+        review.setPublicationDate(LocalDate.of(2025, 1, 1).plusDays(id % 300));
+        review.setArticleName("Article " + id);
+        review.setAuthorLastName("Author");
+        review.setContent(reviewText(900, id));
+        review.setWordCount(150);
+        review.setSentenceCount(9);
+        review.setRating((int) (1 + id % 5));
+        review.setStatus(ReviewStatus.APPROVED);
+        review.setPointsAwarded(200);
+        review.setSubmittedDate(LocalDate.of(2025, 1, 5).plusDays(id % 300));
+        return review;
+    }
+
+    static List<PublicationResponse> publicationResponses(int count) {
+        List<PublicationResponse> responses = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            responses.add(PublicationResponse.from(publication(id)));
+        }
+        return responses;
+    }
+
+    static List<ReviewResponse> reviewResponses(int count) {
+        List<ReviewResponse> responses = new ArrayList<>(count);
+        for (long id = 1; id <= count; id++) {
+            responses.add(ReviewResponse.from(review(id, user(id % 100 + 1), publication(id % 40 + 1))));
+        }
+        return responses;
+    }
+}
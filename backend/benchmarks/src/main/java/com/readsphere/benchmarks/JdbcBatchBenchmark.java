@@ -0,0 +1,109 @@
+package com.readsphere.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backs the batching settings: inserting 500 subscription-shaped rows one statement at a time (what
+ * IDENTITY ids force on Hibernate) against JDBC batches of 50 (hibernate.jdbc.batch_size), with and without
+ * the driver's reWriteBatchedInserts. Needs a PostgreSQL database; only a temporary table is written:
+ *
+ *   java -Djdbc.url=jdbc:postgresql://localhost:5432/readsphere -jar benchmarks/target/benchmarks.jar JdbcBatch
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JdbcBatchBenchmark {
+
+    private static final int ROWS = 500;
+
+    @Param({"1", "50"})
+    private int batchSize;
+
+    @Param({"false", "true"})
+    private boolean reWriteBatchedInserts;
+
+    private Connection connection;
+    private long nextId;
+
+    @Setup
+    public void connect() throws SQLException {
+        connection = Fixtures.jdbcConnection("reWriteBatchedInserts=" + reWriteBatchedInserts);
+        connection.setAutoCommit(false);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMPORARY TABLE bench_subscriptions ("
+                    + "id BIGINT PRIMARY KEY, subscription_number VARCHAR(255) NOT NULL, user_id BIGINT NOT NULL, "
+                    + "publication_id BIGINT NOT NULL, start_date DATE NOT NULL, end_date DATE NOT NULL, "
+                    + "status VARCHAR(255) NOT NULL, price DOUBLE PRECISION NOT NULL)");
+        }
+        connection.commit();
+    }
+
+    // Keeps the table (and its primary key index) from growing across iterations
+    @Setup(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("TRUNCATE bench_subscriptions");
+        }
+        connection.commit();
+    }
+
+    @TearDown
+    public void close() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public int insertRows() throws SQLException {
+        Date start = Date.valueOf(LocalDate.now());
+        Date end = Date.valueOf(LocalDate.now().plusYears(1));
+        int inserted = 0;
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO bench_subscriptions "
+                + "(id, subscription_number, user_id, publication_id, start_date, end_date, status, price) "
+                + "VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < ROWS; i++) {
+                long id = ++nextId;
+                insert.setLong(1, id);
+                insert.setString(2, "SUB-" + id);
+                insert.setLong(3, id % 1000);
+                insert.setLong(4, id % 40);
+                insert.setDate(5, start);
+                insert.setDate(6, end);
+                insert.setString(7, "ACTIVE");
+                insert.setDouble(8, 49.99);
+                if (batchSize == 1) {
+                    inserted += insert.executeUpdate();
+                } else {
+                    insert.addBatch();
+                    if ((i + 1) % batchSize == 0 || i == ROWS - 1) {
+                        inserted += insert.executeBatch().length;
+                    }
+                }
+            }
+        }
+        connection.commit();
+        return inserted;
+    }
+}
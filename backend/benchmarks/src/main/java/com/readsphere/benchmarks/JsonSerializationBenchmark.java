@@ -0,0 +1,76 @@
+package com.readsphere.benchmarks;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.readsphere.dto.PublicationResponse;
+import com.readsphere.dto.ReviewResponse;
+import com.readsphere.model.Publication;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Response bodies for publication and review lists. The endpoints serialize the DTOs; the Publication
+ * entity list is kept as a reference point for what returning entities directly would cost.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    // One cursor page, and a full unpaged list
+    @Param({"20", "500"})
+    private int size;
+
+    private ObjectWriter writer;
+    private List<PublicationResponse> publicationResponses;
+    private List<ReviewResponse> reviewResponses;
+    private List<Publication> publications;
+
+    @Setup
+    public void setUp() {
+        // Matches Spring Boot's auto-configured ObjectMapper: Java time module, ISO dates instead of arrays
+        ObjectMapper mapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        writer = mapper.writer();
+        publicationResponses = Fixtures.publicationResponses(size);
+        reviewResponses = Fixtures.reviewResponses(size);
+        publications = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            publications.add(Fixtures.publication(id));
+        }
+    }
+
+    @Benchmark
+    public byte[] publicationResponses() throws Exception {
+        return writer.writeValueAsBytes(publicationResponses);
+    }
+
+    @Benchmark
+    public byte[] reviewResponses() throws Exception {
+        return writer.writeValueAsBytes(reviewResponses);
+    }
+
+    @Benchmark
+    public byte[] publicationEntities() throws Exception {
+        return writer.writeValueAsBytes(publications);
+    }
+}
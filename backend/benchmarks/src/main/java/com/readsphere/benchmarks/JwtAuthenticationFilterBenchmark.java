@@ -0,0 +1,79 @@
+package com.readsphere.benchmarks;
+
+import com.readsphere.security.JwtAuthenticationFilter;
+import com.readsphere.security.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.concurrent.TimeUnit;
+
+// The filter as each authenticated request runs it: header parsing, token check, principal, security context
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private JwtAuthenticationFilter filter;
+    private String validHeader;
+    private String tamperedHeader;
+
+    @Setup
+    public void setUp() throws Exception {
+        JwtUtil jwtUtil = Fixtures.jwtUtil(10_000);
+        filter = Fixtures.statelessFilter(jwtUtil);
+        String token = jwtUtil.generateToken("reader42", "USER");
+        validHeader = "Bearer " + token;
+        // Flip a character in the middle of the signature: all 6 of its bits are signature bits (the last
+        // character carries padding bits a lenient decoder may ignore), so it is rejected on every request
+        int middle = token.lastIndexOf('.') + (token.length() - token.lastIndexOf('.')) / 2;
+        char flipped = token.charAt(middle) == 'A' ? 'B' : 'A';
+        tamperedHeader = "Bearer " + token.substring(0, middle) + flipped + token.substring(middle + 1);
+        if (run(tamperedHeader) != null) {
+            throw new IllegalStateException("Tampered token was accepted; tamperedToken would measure the valid path");
+        }
+    }
+
+    @Benchmark
+    public Authentication validToken() throws Exception {
+        return run(validHeader);
+    }
+
+    @Benchmark
+    public Authentication tamperedToken() throws Exception {
+        return run(tamperedHeader);
+    }
+
+    @Benchmark
+    public Authentication noToken() throws Exception {
+        return run(null);
+    }
+
+    private Authentication run(String authorizationHeader) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/users/profile");
+        if (authorizationHeader != null) {
+            request.addHeader("Authorization", authorizationHeader);
+        }
+        try {
+            filter.doFilter(request, new MockHttpServletResponse(), new MockFilterChain());
+            return SecurityContextHolder.getContext().getAuthentication();
+        } finally {
+            SecurityContextHolder.clearContext();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.readsphere.benchmarks;
+
+import com.readsphere.security.JwtUtil;
+import com.readsphere.security.VerifiedToken;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+// Token issue (login/signup) and verification, both through the claims cache and with a full HMAC check.
+// legacyPerRequest is the "before" baseline for verifyCached, the per-request cost the filter pays now.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtBenchmark {
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = Fixtures.jwtUtil(10_000);
+        token = jwtUtil.generateToken("reader42", "USER");
+        jwtUtil.verify(token);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken("reader42", "USER");
+    }
+
+    // The per-request path: the token was verified before, so this is a cache hit
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return jwtUtil.verify(token);
+    }
+
+    // extractClaim bypasses the cache: parse, HMAC-SHA256 and claims decoding every time
+    @Benchmark
+    public String verifyUncached() {
+        return jwtUtil.extractClaim(token, Claims::getSubject);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, "reader42");
+    }
+
+    // What the filter did per request before the key, parser and claims were cached: extractUsername, then
+    // validateToken (extractUsername + extractExpiration), each building a key and parser and checking the HMAC
+    @Benchmark
+    public Boolean legacyPerRequest() {
+        String username = legacyClaims(token).getSubject();
+        boolean matches = legacyClaims(token).getSubject().equals(username);
+        return matches && !legacyClaims(token).getExpiration().before(new Date());
+    }
+
+    private static Claims legacyClaims(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(Fixtures.JWT_SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parserBuilder()
+                .setSigningKey(key)
+                .build()
+                .parseClaimsJws(token)
+                .getBody();
+    }
+}
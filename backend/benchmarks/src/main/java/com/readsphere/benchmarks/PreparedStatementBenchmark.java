@@ -0,0 +1,83 @@
+package com.readsphere.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Backs the statement-caching settings: a keyset page over a joined table, executed the way Hibernate
+ * does (a new PreparedStatement per execution), with the driver's default prepareThreshold of 5 against 1.
+ * Like JdbcBatchBenchmark it needs -Djdbc.url and only writes a temporary table.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PreparedStatementBenchmark {
+
+    private static final String PAGE_SQL = "SELECT r.id, r.status, r.rating, p.title FROM bench_reviews r "
+            + "JOIN bench_publications p ON p.id = r.publication_id "
+            + "WHERE r.status = ? AND r.id > ? ORDER BY r.id LIMIT 21";
+
+    @Param({"5", "1"})
+    private int prepareThreshold;
+
+    private Connection connection;
+    private long afterId;
+
+    @Setup
+    public void connect() throws SQLException {
+        connection = Fixtures.jdbcConnection("prepareThreshold=" + prepareThreshold);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TEMPORARY TABLE bench_publications AS "
+                    + "SELECT g AS id, 'Publication ' || g AS title FROM generate_series(1, 200) AS g");
+            statement.execute("ALTER TABLE bench_publications ADD PRIMARY KEY (id)");
+            statement.execute("CREATE TEMPORARY TABLE bench_reviews AS "
+                    + "SELECT g AS id, 1 + g % 200 AS publication_id, 1 + g % 5 AS rating, "
+                    + "CASE WHEN g % 50 = 0 THEN 'PENDING' ELSE 'APPROVED' END AS status "
+                    + "FROM generate_series(1, 100000) AS g");
+            statement.execute("CREATE INDEX ON bench_reviews (status, id)");
+            statement.execute("ANALYZE bench_publications");
+            statement.execute("ANALYZE bench_reviews");
+        }
+    }
+
+    @TearDown
+    public void close() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public long keysetPage() throws SQLException {
+        long last = 0;
+        try (PreparedStatement page = connection.prepareStatement(PAGE_SQL)) {
+            page.setString(1, "APPROVED");
+            page.setLong(2, afterId);
+            try (ResultSet rows = page.executeQuery()) {
+                while (rows.next()) {
+                    last = rows.getLong(1);
+                }
+            }
+        }
+        afterId = last >= 99_000 ? 0 : last;
+        return last;
+    }
+}
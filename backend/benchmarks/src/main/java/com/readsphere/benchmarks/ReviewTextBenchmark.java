@@ -0,0 +1,49 @@
+package com.readsphere.benchmarks;
+
+import com.readsphere.text.TextMetrics;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+// Word/sentence counting for submitted reviews: TextMetrics against the regex splits it replaced
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReviewTextBenchmark {
+
+    // Typical review, and the 5000-character column maximum
+    @Param({"600", "5000"})
+    private int length;
+
+    private String content;
+
+    @Setup
+    public void setUp() {
+        content = Fixtures.reviewText(length, 42);
+    }
+
+    @Benchmark
+    public TextMetrics textMetrics() {
+        return TextMetrics.analyze(content);
+    }
+
+    @Benchmark
+    public void regexSplit(Blackhole blackhole) {
+        blackhole.consume(content.trim().split("\\s+").length);
+        blackhole.consume(content.split("[.!?]+").length);
+    }
+}
@@ -0,0 +1,92 @@
+// k6 load test for the checkout path: concurrent buyers each sign up once, then purchase in a loop.
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=50 -e DURATION=60s loadtest/checkout.js
+//
+// Reports checkout throughput (checkouts/s), latency percentiles and the failure rate. Buyers pay by card
+// and then with the points they earned, so the points ledger sees concurrent awards and redemptions.
+import http from 'k6/http';
+import { check, fail } from 'k6';
+import { Counter, Trend } from 'k6/metrics';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const CART_SIZE = parseInt(__ENV.CART_SIZE || '1', 10);
+
+export const options = {
+  scenarios: {
+    buyers: {
+      executor: 'constant-vus',
+      vus: parseInt(__ENV.VUS || '50', 10),
+      duration: __ENV.DURATION || '60s',
+    },
+  },
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+    checkout_duration: ['p(95)<250'],
+  },
+};
+
+const checkouts = new Counter('checkouts');
+const checkoutDuration = new Trend('checkout_duration', true);
+
+export function setup() {
+  const res = http.get(`${BASE_URL}/api/publications`);
+  if (res.status !== 200) {
+    fail(`could not load publications: ${res.status}`);
+  }
+  const ids = res.json().map((p) => p.id);
+  if (ids.length === 0) {
+    fail('catalog is empty; start the backend with seed data');
+  }
+  return { publicationIds: ids, runId: Date.now() };
+}
+
+// One account per VU, created lazily on the VU's first iteration
+let token = null;
+
+function signUp(runId) {
+  const username = `load_${runId}_${__VU}`;
+  const body = JSON.stringify({
+    username,
+    password: 'load-test-password',
+    email: `${username}@example.test`,
+    firstName: 'Load',
+    lastName: 'Test',
+  });
+  const res = http.post(`${BASE_URL}/api/auth/signup`, body, {
+    headers: { 'Content-Type': 'application/json' },
+  });
+  if (res.status !== 200) {
+    fail(`signup failed for ${username}: ${res.status} ${res.body}`);
+  }
+  return res.json().token;
+}
+
+export default function (data) {
+  if (token === null) {
+    token = signUp(data.runId);
+  }
+
+  const items = [];
+  for (let i = 0; i < CART_SIZE; i++) {
+    const publicationId = data.publicationIds[Math.floor(Math.random() * data.publicationIds.length)];
+    // Every third checkout spends a few earned points, the rest pay by card and earn points
+    const usePoints = __ITER % 3 === 2;
+    items.push({
+      publicationId,
+      paymentMethod: usePoints ? 'mixed' : 'card',
+      pointsToUse: usePoints ? 100 : 0,
+    });
+  }
+
+  const url = CART_SIZE === 1 ? `${BASE_URL}/api/subscriptions/purchase` : `${BASE_URL}/api/subscriptions/checkout`;
+  const payload = JSON.stringify(CART_SIZE === 1 ? items[0] : items);
+  const res = http.post(url, payload, {
+    headers: { 'Content-Type': 'application/json', Authorization: `Bearer ${token}` },
+    tags: { name: 'checkout' },
+  });
+
+  checkoutDuration.add(res.timings.duration);
+  if (check(res, { 'checkout succeeded': (r) => r.status === 200 })) {
+    checkouts.add(1);
+  }
+}
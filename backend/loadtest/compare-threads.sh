@@ -0,0 +1,38 @@
+#!/usr/bin/env bash
+# Runs loadtest/concurrency.js against the backend twice, once on platform threads and once with the
+# "virtual" profile, and writes each k6 summary to loadtest/results/. Needs JDK 21+, k6 and a running
+# PostgreSQL configured as in application.properties.
+#
+#   ./loadtest/compare-threads.sh            # MAX_VUS defaults to 2000
+#   MAX_VUS=5000 ./loadtest/compare-threads.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+MAX_VUS="${MAX_VUS:-2000}"
+PORT="${PORT:-8080}"
+RESULTS=loadtest/results
+mkdir -p "$RESULTS"
+
+mvn -q -B -DskipTests package
+JAR=target/backend-1.0.0.jar
+
+run() {
+  local mode="$1" profile="$2"
+  echo "=== $mode threads ==="
+  java -Djdk.tracePinnedThreads=short -jar "$JAR" --server.port="$PORT" \
+    ${profile:+--spring.profiles.active=$profile} > "$RESULTS/$mode-server.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' EXIT
+  until curl -sf "http://localhost:$PORT/api/publications/page?size=1" > /dev/null; do sleep 1; done
+  k6 run -q -e BASE_URL="http://localhost:$PORT" -e MAX_VUS="$MAX_VUS" \
+    --summary-export "$RESULTS/$mode.json" loadtest/concurrency.js
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+  trap - EXIT
+}
+
+run platform ""
+run virtual virtual
+
+echo "Summaries: $RESULTS/platform.json $RESULTS/virtual.json"
+echo "Pinned-thread stack traces in the virtual run: $(grep -c 'VirtualThread\[' "$RESULTS/virtual-server.log" || true)"
@@ -0,0 +1,63 @@
+// k6 high-concurrency mix for comparing platform and virtual threads (see compare-threads.sh).
+//
+//   k6 run -e BASE_URL=http://localhost:8080 -e MAX_VUS=2000 loadtest/concurrency.js
+//
+// Each iteration does one catalog page read, one JDBC-bound account read and, for a small share of
+// iterations, a login (BCrypt). Ramps to MAX_VUS so the server runs far more concurrent requests
+// than the default Tomcat pool of 200 threads.
+import http from 'k6/http';
+import { check, fail } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const MAX_VUS = parseInt(__ENV.MAX_VUS || '2000', 10);
+const PASSWORD = 'load-test-password';
+
+export const options = {
+  scenarios: {
+    ramp: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: Math.floor(MAX_VUS / 4) },
+        { duration: '30s', target: MAX_VUS },
+        { duration: '60s', target: MAX_VUS },
+        { duration: '15s', target: 0 },
+      ],
+      gracefulRampDown: '10s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+  const username = `concurrency_${Date.now()}`;
+  const res = http.post(`${BASE_URL}/api/auth/signup`, JSON.stringify({
+    username,
+    password: PASSWORD,
+    email: `${username}@example.test`,
+    firstName: 'Load',
+    lastName: 'Test',
+  }), { headers: { 'Content-Type': 'application/json' } });
+  if (res.status !== 200) {
+    fail(`signup failed: ${res.status} ${res.body}`);
+  }
+  return { username, token: res.json().token };
+}
+
+export default function (data) {
+  const auth = { headers: { Authorization: `Bearer ${data.token}` } };
+
+  check(http.get(`${BASE_URL}/api/publications/page?size=20`, { tags: { name: 'catalog' } }), {
+    'catalog 200': (r) => r.status === 200,
+  });
+  check(http.get(`${BASE_URL}/api/subscriptions/user`, Object.assign({ tags: { name: 'subscriptions' } }, auth)), {
+    'subscriptions 200': (r) => r.status === 200,
+  });
+
+  if (Math.random() < 0.02) {
+    const login = http.post(`${BASE_URL}/api/auth/login`,
+      JSON.stringify({ username: data.username, password: PASSWORD }),
+      { headers: { 'Content-Type': 'application/json' }, tags: { name: 'login' } });
+    check(login, { 'login 200': (r) => r.status === 200 });
+  }
+}
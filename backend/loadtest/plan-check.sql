@@ -0,0 +1,114 @@
+-- Query-plan regression check: seeds production-sized data, then fails if any hot repository query
+-- plans a sequential scan. Everything runs in one transaction that is rolled back, but use a scratch
+-- database migrated to the latest schema anyway (the seed takes locks and a few hundred MB of WAL):
+--
+--   psql -v ON_ERROR_STOP=1 -d readsphere_plans -f loadtest/plan-check.sql
+--
+-- Seeded ids start at 1e9 so they never collide with existing rows. The queries mirror the SQL Hibernate
+-- renders for the repository methods named next to them.
+
+BEGIN;
+
+INSERT INTO publications (id, title, type, description, price, issues_per_year, city, category,
+                          rating, review_count, rating_count, featured)
+SELECT 1000000000 + g,
+       'Publication ' || md5(g::text),
+       CASE WHEN g % 2 = 0 THEN 'MAGAZINE' ELSE 'NEWSPAPER' END,
+       'Seeded for plan checks',
+       9.99 + g % 40,
+       CASE WHEN g % 2 = 0 THEN 12 ELSE 365 END,
+       CASE WHEN g % 2 = 0 THEN NULL ELSE 'City ' || g % 300 END,
+       'Category ' || g % 40,
+       (g % 50) / 10.0, g % 200, g % 200,
+       g % 250 = 0
+FROM generate_series(1, 20000) AS g;
+
+INSERT INTO users (id, username, password, email, first_name, last_name, address, points, role)
+SELECT 1000000000 + g, 'plancheck_' || g, 'x', 'plancheck_' || g || '@example.com', 'First', 'Last',
+       'Street ' || g, g % 5000, 'USER'
+FROM generate_series(1, 200000) AS g;
+
+INSERT INTO user_subscriptions (id, subscription_number, user_id, publication_id, start_date, end_date, status,
+                                order_number, price, issues_per_year, points_awarded, paid_with_points)
+SELECT 1000000000 + g, 'PLANCHECK-SUB-' || g, 1000000000 + 1 + g % 200000, 1000000000 + 1 + g % 20000,
+       DATE '2024-01-01' + g % 600, DATE '2025-01-01' + g % 600,
+       CASE WHEN g % 10 = 0 THEN 'CANCELLED' WHEN g % 10 = 1 THEN 'EXPIRED' ELSE 'ACTIVE' END,
+       'PLANCHECK-ORD-' || g, 49.99, 12, 0, FALSE
+FROM generate_series(1, 500000) AS g;
+
+-- 90% approved, 8% rejected, 2% pending: the moderation queue is a small slice of the table
+INSERT INTO reviews (id, user_id, subscription_id, publication_id, issue_number, publication_date, article_name,
+                     author_last_name, content, word_count, sentence_count, rating, status, points_awarded,
+                     submitted_date)
+SELECT 1000000000 + g, 1000000000 + 1 + g % 200000, 1000000000 + g, 1000000000 + 1 + g % 20000,
+       'Issue ' || g % 52, DATE '2024-01-01' + g % 600, 'Article', 'Author',
+       'Seeded review ' || g || repeat(' lorem ipsum', 40), 80, 6, 1 + g % 5,
+       CASE WHEN g % 50 = 0 THEN 'PENDING' WHEN g % 50 < 5 THEN 'REJECTED' ELSE 'APPROVED' END,
+       0, DATE '2024-01-01' + g % 600
+FROM generate_series(1, 500000) AS g;
+
+INSERT INTO points_transactions (id, user_id, delta, balance_after, reason, reference, created_at)
+SELECT 1000000000 + g, 1000000000 + 1 + g % 200000, 100, 100, 'PURCHASE_AWARD', 'PLANCHECK-' || g,
+       TIMESTAMP '2024-01-01' + g * INTERVAL '1 minute'
+FROM generate_series(1, 1000000) AS g;
+
+ANALYZE publications;
+ANALYZE users;
+ANALYZE user_subscriptions;
+ANALYZE reviews;
+ANALYZE points_transactions;
+
+DO $$
+DECLARE
+  hot_queries TEXT[] := ARRAY[
+    -- PublicationRepository
+    'SELECT * FROM publications WHERE category = ''Category 7''',
+    'SELECT * FROM publications WHERE featured',
+    'SELECT * FROM publications WHERE upper(title) LIKE upper(''%' || substr(md5('4242'), 1, 10) || '%'')',
+    'SELECT * FROM publications WHERE id > 1000010000 ORDER BY id LIMIT 21',
+    -- UserRepository
+    'SELECT * FROM users WHERE username = ''plancheck_4242''',
+    'SELECT * FROM users WHERE email = ''plancheck_4242@example.com''',
+    -- UserSubscriptionRepository
+    'SELECT * FROM user_subscriptions WHERE user_id = 1000004242',
+    'SELECT * FROM user_subscriptions WHERE user_id = 1000004242 AND status = ''ACTIVE''',
+    'SELECT * FROM user_subscriptions WHERE subscription_number = ''PLANCHECK-SUB-4242''',
+    'SELECT s.*, p.title FROM user_subscriptions s JOIN users u ON u.id = s.user_id '
+      || 'JOIN publications p ON p.id = s.publication_id WHERE u.username = ''plancheck_4242'' ORDER BY s.id',
+    -- SubscriptionLifecycleJob (claiming a chunk of due subscriptions)
+    'SELECT id FROM user_subscriptions WHERE status = ''ACTIVE'' AND end_date < DATE ''2025-01-15'' '
+      || 'ORDER BY end_date, id LIMIT 1000 FOR UPDATE SKIP LOCKED',
+    -- ReviewRepository
+    'SELECT * FROM reviews WHERE status = ''PENDING'' ORDER BY id',
+    'SELECT * FROM reviews WHERE status = ''APPROVED'' AND id > 1000200000 ORDER BY id LIMIT 21',
+    'SELECT * FROM reviews WHERE user_id = 1000004242',
+    'SELECT * FROM reviews WHERE publication_id = 1000004242',
+    'SELECT id FROM reviews WHERE status = ''PENDING'' AND publication_id = 1000004242 '
+      || 'AND submitted_date <= DATE ''2025-01-01'' ORDER BY id',
+    'SELECT r.id FROM reviews r JOIN users u ON u.id = r.user_id '
+      || 'WHERE u.username = ''plancheck_4242'' AND r.content = ''Seeded review 4242''',
+    'SELECT r.*, u.username, p.title FROM reviews r JOIN users u ON u.id = r.user_id '
+      || 'JOIN user_subscriptions s ON s.id = r.subscription_id JOIN publications p ON p.id = r.publication_id '
+      || 'WHERE u.username = ''plancheck_4242'' AND r.id > 0 ORDER BY r.id LIMIT 21',
+    -- PointsTransactionRepository
+    'SELECT t.* FROM points_transactions t JOIN users u ON u.id = t.user_id '
+      || 'WHERE u.username = ''plancheck_4242'' ORDER BY t.id DESC LIMIT 50'
+  ];
+  hot_query TEXT;
+  plan JSON;
+  failures TEXT := '';
+BEGIN
+  FOREACH hot_query IN ARRAY hot_queries LOOP
+    EXECUTE 'EXPLAIN (FORMAT JSON) ' || hot_query INTO plan;
+    IF plan::text LIKE '%"Seq Scan"%' THEN
+      failures := failures || E'\n  ' || hot_query;
+    END IF;
+  END LOOP;
+  IF failures <> '' THEN
+    RAISE EXCEPTION 'Sequential scan planned for:%', failures;
+  END IF;
+  RAISE NOTICE 'No sequential scans across % hot queries', array_length(hot_queries, 1);
+END
+$$;
+
+ROLLBACK;
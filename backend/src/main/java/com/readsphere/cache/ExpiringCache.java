@@ -0,0 +1,94 @@
+package com.readsphere.cache;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Bounded concurrent map whose entries each carry their own expiry time. Expired entries are dropped when
+ * read; when the map is full, expired entries are purged first, then arbitrary ones until it is a tenth
+ * under capacity, so a map full of live entries does not shrink on every insert.
+ */
+public class ExpiringCache<K, V> {
+    private final int maxSize;
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final CacheStats stats = new CacheStats();
+
+    public ExpiringCache(int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    // The live value, or null (counted as a miss) when absent or expired
+    public V get(K key, long nowMillis) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            stats.recordMiss();
+            return null;
+        }
+        if (entry.isExpired(nowMillis)) {
+            if (entries.remove(key, entry)) {
+                stats.recordEviction();
+            }
+            stats.recordMiss();
+            return null;
+        }
+        stats.recordHit();
+        return entry.value;
+    }
+
+    public void put(K key, V value, long expiresAtMillis, long nowMillis) {
+        if (maxSize <= 0) {
+            return;
+        }
+        if (entries.size() >= maxSize) {
+            shrink(nowMillis);
+        }
+        entries.put(key, new Entry<>(value, expiresAtMillis));
+        stats.recordLoad();
+    }
+
+    public void evict(K key) {
+        if (entries.remove(key) != null) {
+            stats.recordEviction();
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    private void shrink(long nowMillis) {
+        Iterator<Entry<V>> it = entries.values().iterator();
+        while (it.hasNext()) {
+            if (it.next().isExpired(nowMillis)) {
+                it.remove();
+                stats.recordEviction();
+            }
+        }
+        int target = maxSize - Math.max(1, maxSize / 10);
+        it = entries.values().iterator();
+        while (entries.size() > target && it.hasNext()) {
+            it.next();
+            it.remove();
+            stats.recordEviction();
+        }
+    }
+
+    private static final class Entry<V> {
+        private final V value;
+        private final long expiresAtMillis;
+
+        private Entry(V value, long expiresAtMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        private boolean isExpired(long nowMillis) {
+            return nowMillis >= expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.readsphere.cache;
+
+import com.readsphere.dto.PublicationResponse;
+import com.readsphere.event.PublicationChangedEvent;
+import com.readsphere.model.PublicationType;
+import com.readsphere.repository.PublicationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Read-through, in-memory snapshot of the publication catalog. The whole catalog is loaded with a single
+ * projection query and the featured and per-type views are derived from it; the snapshot is dropped
+ * after any publication change commits.
+ */
+@Component
+public class PublicationCatalogCache {
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    private final CacheStats stats = new CacheStats();
+    private final ReentrantLock loadLock = new ReentrantLock();
+    private final AtomicReference<Slot> slot = new AtomicReference<>(new Slot(0, null));
+
+    public List<PublicationResponse> getAll() {
+        return catalog().all;
+    }
+
+    public Optional<PublicationResponse> getById(Long id) {
+        return Optional.ofNullable(catalog().byId.get(id));
+    }
+
+    public List<PublicationResponse> getFeatured() {
+        return catalog().featured;
+    }
+
+    // Most reviewed first, then best rated; precomputed per snapshot from the stored aggregates
+    public List<PublicationResponse> getPopular() {
+        return catalog().popular;
+    }
+
+    public List<PublicationResponse> getByType(PublicationType type) {
+        return catalog().byType.getOrDefault(type, Collections.emptyList());
+    }
+
+    public CacheStats getStats() {
+        return stats;
+    }
+
+    public void invalidate() {
+        Slot previous = slot.getAndUpdate(current -> new Slot(current.generation + 1, null));
+        if (previous.catalog != null) {
+            stats.recordEviction();
+        }
+    }
+
+    // Runs after commit so readers never repopulate the cache with rows that could still roll back
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPublicationChanged(PublicationChangedEvent event) {
+        invalidate();
+    }
+
+    private Catalog catalog() {
+        Catalog cached = slot.get().catalog;
+        if (cached != null) {
+            stats.recordHit();
+            return cached;
+        }
+        stats.recordMiss();
+
+        loadLock.lock();
+        try {
+            Slot current = slot.get();
+            if (current.catalog != null) {
+                return current.catalog;
+            }
+            Catalog loaded = new Catalog(publicationRepository.findAllResponses());
+            stats.recordLoad();
+            // An invalidation during the load bumps the generation, so a stale snapshot is never installed
+            slot.compareAndSet(current, new Slot(current.generation, loaded));
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private static final class Slot {
+        private final long generation;
+        private final Catalog catalog;
+
+        private Slot(long generation, Catalog catalog) {
+            this.generation = generation;
+            this.catalog = catalog;
+        }
+    }
+
+    private static final class Catalog {
+        private final List<PublicationResponse> all;
+        private final Map<Long, PublicationResponse> byId;
+        private final List<PublicationResponse> featured;
+        private final Map<PublicationType, List<PublicationResponse>> byType;
+        private final List<PublicationResponse> popular;
+
+        private Catalog(List<PublicationResponse> publications) {
+            Map<Long, PublicationResponse> ids = new HashMap<>();
+            List<PublicationResponse> featuredList = new ArrayList<>();
+            Map<PublicationType, List<PublicationResponse>> types = new EnumMap<>(PublicationType.class);
+
+            for (PublicationResponse publication : publications) {
+                ids.put(publication.getId(), publication);
+                if (Boolean.TRUE.equals(publication.getFeatured())) {
+                    featuredList.add(publication);
+                }
+                types.computeIfAbsent(publication.getType(), type -> new ArrayList<>()).add(publication);
+            }
+            types.replaceAll((type, list) -> List.copyOf(list));
+
+            this.all = List.copyOf(publications);
+            this.byId = ids;
+            this.featured = List.copyOf(featuredList);
+            this.byType = types;
+            this.popular = publications.stream()
+                    .sorted(Comparator
+                            .comparing((PublicationResponse p) -> p.getReviewCount() == null ? 0 : p.getReviewCount())
+                            .thenComparing(p -> p.getRating() == null ? 0.0 : p.getRating())
+                            .reversed())
+                    .toList();
+        }
+    }
+}
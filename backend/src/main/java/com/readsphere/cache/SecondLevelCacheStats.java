@@ -0,0 +1,76 @@
+package com.readsphere.cache;
+
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// Snapshot of Hibernate's second-level and query cache counters (needs hibernate.generate_statistics)
+public class SecondLevelCacheStats {
+    private final long secondLevelCacheHits;
+    private final long secondLevelCacheMisses;
+    private final long secondLevelCachePuts;
+    private final long queryCacheHits;
+    private final long queryCacheMisses;
+    private final long queryCachePuts;
+    private final long entityLoads;
+    private final long queryExecutions;
+    private final Map<String, Region> regions;
+
+    private SecondLevelCacheStats(Statistics statistics) {
+        this.secondLevelCacheHits = statistics.getSecondLevelCacheHitCount();
+        this.secondLevelCacheMisses = statistics.getSecondLevelCacheMissCount();
+        this.secondLevelCachePuts = statistics.getSecondLevelCachePutCount();
+        this.queryCacheHits = statistics.getQueryCacheHitCount();
+        this.queryCacheMisses = statistics.getQueryCacheMissCount();
+        this.queryCachePuts = statistics.getQueryCachePutCount();
+        this.entityLoads = statistics.getEntityLoadCount();
+        this.queryExecutions = statistics.getQueryExecutionCount();
+        this.regions = new LinkedHashMap<>();
+        for (String name : statistics.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics region = statistics.getCacheRegionStatistics(name);
+            if (region != null) {
+                regions.put(name, new Region(region));
+            }
+        }
+    }
+
+    public static SecondLevelCacheStats from(Statistics statistics) {
+        return new SecondLevelCacheStats(statistics);
+    }
+
+    public long getSecondLevelCacheHits() { return secondLevelCacheHits; }
+    public long getSecondLevelCacheMisses() { return secondLevelCacheMisses; }
+    public long getSecondLevelCachePuts() { return secondLevelCachePuts; }
+    public long getQueryCacheHits() { return queryCacheHits; }
+    public long getQueryCacheMisses() { return queryCacheMisses; }
+    public long getQueryCachePuts() { return queryCachePuts; }
+    public long getEntityLoads() { return entityLoads; }
+    public long getQueryExecutions() { return queryExecutions; }
+    public Map<String, Region> getRegions() { return regions; }
+
+    public double getSecondLevelCacheHitRatio() {
+        long lookups = secondLevelCacheHits + secondLevelCacheMisses;
+        return lookups == 0 ? 0.0 : (double) secondLevelCacheHits / lookups;
+    }
+
+    public static class Region {
+        private final long hits;
+        private final long misses;
+        private final long puts;
+        private final long elementsInMemory;
+
+        private Region(CacheRegionStatistics statistics) {
+            this.hits = statistics.getHitCount();
+            this.misses = statistics.getMissCount();
+            this.puts = statistics.getPutCount();
+            this.elementsInMemory = statistics.getElementCountInMemory();
+        }
+
+        public long getHits() { return hits; }
+        public long getMisses() { return misses; }
+        public long getPuts() { return puts; }
+        public long getElementsInMemory() { return elementsInMemory; }
+    }
+}
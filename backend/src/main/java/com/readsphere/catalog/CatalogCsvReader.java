@@ -0,0 +1,121 @@
+package com.readsphere.catalog;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 reader: one record at a time, so memory does not grow with the file. Handles quoted
+ * fields with embedded commas, doubled quotes and line breaks, CRLF or LF line endings and a leading BOM.
+ * No field is held beyond {@link #MAX_FIELD_LENGTH} characters, so an unterminated quote cannot pull the
+ * rest of a large upload into memory.
+ */
+class CatalogCsvReader {
+
+    // Longest column is the description; anything well past it is a broken record
+    static final int MAX_FIELD_LENGTH = CatalogImportRow.MAX_DESCRIPTION_LENGTH * 2;
+
+    private final Reader reader;
+    private final StringBuilder field = new StringBuilder();
+    private int pushedBack = -2;
+    private boolean started;
+    private boolean overflow;
+
+    CatalogCsvReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Fields of the next record, or null at end of input; blank lines are skipped. A record with an over-long
+     * field is read to its end and then rejected with IllegalArgumentException, leaving the input readable.
+     */
+    List<String> next() throws IOException {
+        List<String> record = new ArrayList<>();
+        field.setLength(0);
+        overflow = false;
+        boolean quoted = false;
+        boolean fieldStarted = false;
+        int c;
+        while ((c = read()) != -1) {
+            if (quoted) {
+                if (c == '"') {
+                    int following = read();
+                    if (following == '"') {
+                        append('"');
+                    } else {
+                        quoted = false;
+                        unread(following);
+                    }
+                } else {
+                    append((char) c);
+                }
+            } else if (c == '"' && field.length() == 0) {
+                quoted = true;
+                fieldStarted = true;
+            } else if (c == ',') {
+                record.add(field.toString());
+                field.setLength(0);
+                fieldStarted = true;
+            } else if (c == '\r' || c == '\n') {
+                if (c == '\r') {
+                    int following = read();
+                    if (following != '\n') {
+                        unread(following);
+                    }
+                }
+                if (fieldStarted || field.length() > 0 || !record.isEmpty()) {
+                    record.add(field.toString());
+                    return checked(record);
+                }
+            } else {
+                append((char) c);
+                fieldStarted = true;
+            }
+        }
+        if (quoted) {
+            throw new IOException("Unterminated quoted field at end of input");
+        }
+        if (fieldStarted || field.length() > 0 || !record.isEmpty()) {
+            record.add(field.toString());
+            return checked(record);
+        }
+        return null;
+    }
+
+    // Past the cap, characters are consumed but dropped, and the record fails once it ends
+    private void append(char c) {
+        if (field.length() < MAX_FIELD_LENGTH) {
+            field.append(c);
+        } else {
+            overflow = true;
+        }
+    }
+
+    private List<String> checked(List<String> record) {
+        if (overflow) {
+            throw new IllegalArgumentException("a field is longer than " + MAX_FIELD_LENGTH + " characters");
+        }
+        return record;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != -2) {
+            int c = pushedBack;
+            pushedBack = -2;
+            return c;
+        }
+        int c = reader.read();
+        if (!started) {
+            started = true;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        return c;
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+}
@@ -0,0 +1,27 @@
+package com.readsphere.catalog;
+
+import java.util.Locale;
+
+public enum CatalogFormat {
+    CSV,
+    JSON;
+
+    // An explicit format wins; otherwise the file extension decides
+    public static CatalogFormat resolve(String format, String filename) {
+        if (format != null && !format.isBlank()) {
+            try {
+                return valueOf(format.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new RuntimeException("Unsupported import format: " + format);
+            }
+        }
+        String name = filename == null ? "" : filename.toLowerCase(Locale.ROOT);
+        if (name.endsWith(".csv")) {
+            return CSV;
+        }
+        if (name.endsWith(".json")) {
+            return JSON;
+        }
+        throw new RuntimeException("Cannot tell the import format from '" + filename + "', pass format=csv|json");
+    }
+}
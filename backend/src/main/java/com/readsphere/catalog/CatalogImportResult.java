@@ -0,0 +1,71 @@
+package com.readsphere.catalog;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of one catalog import. Row numbers count data rows from 1 (the CSV header is not a row). Only the
+ * first errors are listed, up to catalog.import.max-reported-errors; {@code rejected} counts all of them.
+ */
+public class CatalogImportResult {
+
+    private final int maxReportedErrors;
+    private final List<RowError> errors = new ArrayList<>();
+    private int rowsRead;
+    private int inserted;
+    private int updated;
+    private int unchanged;
+    private int rejected;
+    private int batches;
+    private long millis;
+
+    CatalogImportResult(int maxReportedErrors) {
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    void recordRow() { rowsRead++; }
+
+    void recordBatch(int inserted, int updated, int unchanged) {
+        this.inserted += inserted;
+        this.updated += updated;
+        this.unchanged += unchanged;
+        batches++;
+    }
+
+    void recordSuperseded() { unchanged++; }
+
+    void recordError(long row, String message) {
+        rejected++;
+        if (errors.size() < maxReportedErrors) {
+            errors.add(new RowError(row, message));
+        }
+    }
+
+    void finish(long millis) { this.millis = millis; }
+
+    public boolean hasChanges() { return inserted > 0 || updated > 0; }
+
+    public int getRowsRead() { return rowsRead; }
+    public int getInserted() { return inserted; }
+    public int getUpdated() { return updated; }
+    // Valid rows identical to the stored publication, or superseded by a later row for the same publication
+    public int getUnchanged() { return unchanged; }
+    public int getRejected() { return rejected; }
+    public int getBatches() { return batches; }
+    public long getMillis() { return millis; }
+    public List<RowError> getErrors() { return Collections.unmodifiableList(errors); }
+
+    public static class RowError {
+        private final long row;
+        private final String message;
+
+        RowError(long row, String message) {
+            this.row = row;
+            this.message = message;
+        }
+
+        public long getRow() { return row; }
+        public String getMessage() { return message; }
+    }
+}
@@ -0,0 +1,140 @@
+package com.readsphere.catalog;
+
+import com.readsphere.model.PublicationType;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * One validated catalog row. Built from the raw fields of a CSV record or JSON object, keyed by column name
+ * normalized with {@link #normalizeColumn} so both issuesPerYear and issues_per_year are accepted.
+ */
+class CatalogImportRow {
+
+    // Column limits of the publications table: title VARCHAR(1024), description VARCHAR(2000), the rest VARCHAR(255)
+    static final int MAX_TITLE_LENGTH = 1024;
+    static final int MAX_TEXT_LENGTH = 255;
+    static final int MAX_DESCRIPTION_LENGTH = 2000;
+    static final int MAX_ISSUES_PER_YEAR = 366;
+
+    private final String title;
+    private final PublicationType type;
+    private final String description;
+    private final double price;
+    private final String image;
+    private final int issuesPerYear;
+    private final String city;
+    private final String category;
+    private final boolean featured;
+
+    private CatalogImportRow(String title, PublicationType type, String description, double price, String image,
+                             int issuesPerYear, String city, String category, boolean featured) {
+        this.title = title;
+        this.type = type;
+        this.description = description;
+        this.price = price;
+        this.image = image;
+        this.issuesPerYear = issuesPerYear;
+        this.city = city;
+        this.category = category;
+        this.featured = featured;
+    }
+
+    static String normalizeColumn(String column) {
+        return column.replace("_", "").replace(" ", "").toLowerCase(Locale.ROOT);
+    }
+
+    // Throws IllegalArgumentException with a message fit for the import report
+    static CatalogImportRow parse(Map<String, String> fields) {
+        String title = text(fields, "title", MAX_TITLE_LENGTH);
+        if (title == null) {
+            throw new IllegalArgumentException("title is required");
+        }
+
+        String typeName = text(fields, "type", MAX_TEXT_LENGTH);
+        if (typeName == null) {
+            throw new IllegalArgumentException("type is required");
+        }
+        PublicationType type;
+        try {
+            type = PublicationType.valueOf(typeName.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("type must be MAGAZINE or NEWSPAPER, was '" + typeName + "'");
+        }
+
+        String priceText = text(fields, "price", MAX_TEXT_LENGTH);
+        if (priceText == null) {
+            throw new IllegalArgumentException("price is required");
+        }
+        double price;
+        try {
+            price = Double.parseDouble(priceText);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("price is not a number: '" + priceText + "'");
+        }
+        if (!Double.isFinite(price) || price <= 0) {
+            throw new IllegalArgumentException("price must be positive");
+        }
+
+        String issuesText = text(fields, "issuesperyear", MAX_TEXT_LENGTH);
+        if (issuesText == null) {
+            throw new IllegalArgumentException("issuesPerYear is required");
+        }
+        int issuesPerYear;
+        try {
+            issuesPerYear = Integer.parseInt(issuesText);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("issuesPerYear is not a whole number: '" + issuesText + "'");
+        }
+        if (issuesPerYear < 1 || issuesPerYear > MAX_ISSUES_PER_YEAR) {
+            throw new IllegalArgumentException("issuesPerYear must be between 1 and " + MAX_ISSUES_PER_YEAR);
+        }
+
+        String featuredText = text(fields, "featured", MAX_TEXT_LENGTH);
+        boolean featured = false;
+        if (featuredText != null) {
+            if (featuredText.equalsIgnoreCase("true")) {
+                featured = true;
+            } else if (!featuredText.equalsIgnoreCase("false")) {
+                throw new IllegalArgumentException("featured must be true or false");
+            }
+        }
+
+        return new CatalogImportRow(title, type,
+                text(fields, "description", MAX_DESCRIPTION_LENGTH),
+                price,
+                text(fields, "image", MAX_TEXT_LENGTH),
+                issuesPerYear,
+                text(fields, "city", MAX_TEXT_LENGTH),
+                text(fields, "category", MAX_TEXT_LENGTH),
+                featured);
+    }
+
+    // Trimmed value, null when missing or blank
+    private static String text(Map<String, String> fields, String column, int maxLength) {
+        String value = fields.get(column);
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        value = value.trim();
+        if (value.length() > maxLength) {
+            throw new IllegalArgumentException(column + " is longer than " + maxLength + " characters");
+        }
+        return value;
+    }
+
+    // Rows with the same key are the same publication: the upsert's conflict target
+    String key() {
+        return type.name() + '\n' + title;
+    }
+
+    String getTitle() { return title; }
+    PublicationType getType() { return type; }
+    String getDescription() { return description; }
+    double getPrice() { return price; }
+    String getImage() { return image; }
+    int getIssuesPerYear() { return issuesPerYear; }
+    String getCity() { return city; }
+    String getCategory() { return category; }
+    boolean isFeatured() { return featured; }
+}
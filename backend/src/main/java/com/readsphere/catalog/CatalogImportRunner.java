@@ -0,0 +1,62 @@
+package com.readsphere.catalog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.stereotype.Component;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Command-line import: start the application with --catalog.import.file=path (and optionally
+ * --catalog.import.format=csv|json and --spring.main.web-application-type=none). It imports the file, logs
+ * the report and exits with status 0 when every row was accepted, 1 otherwise.
+ */
+@Component
+@ConditionalOnProperty("catalog.import.file")
+public class CatalogImportRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogImportRunner.class);
+
+    @Value("${catalog.import.file}")
+    private String file;
+
+    @Value("${catalog.import.format:}")
+    private String format;
+
+    @Autowired
+    private CatalogImportService importService;
+
+    @Autowired
+    private ConfigurableApplicationContext context;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        int status;
+        try {
+            Path path = Path.of(file);
+            CatalogImportResult result;
+            try (InputStream input = Files.newInputStream(path)) {
+                result = importService.importCatalog(input, CatalogFormat.resolve(format, path.toString()));
+            }
+            result.getErrors().forEach(error -> log.warn("Row {}: {}", error.getRow(), error.getMessage()));
+            if (result.getRejected() > result.getErrors().size()) {
+                log.warn("... and {} more rejected rows", result.getRejected() - result.getErrors().size());
+            }
+            status = result.getRejected() == 0 ? 0 : 1;
+        } catch (Exception e) {
+            log.error("Catalog import of {} failed", file, e);
+            status = 1;
+        }
+        int exitCode = status;
+        System.exit(SpringApplication.exit(context, () -> exitCode));
+    }
+}
@@ -0,0 +1,322 @@
+package com.readsphere.catalog;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.readsphere.event.PublicationChangedEvent;
+import com.readsphere.model.Publication;
+import io.micrometer.core.annotation.Timed;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bulk catalog import from CSV or JSON. The file is streamed row by row and valid rows are upserted on
+ * (type, title) in chunks of catalog.import.batch-size: one statement and one short transaction per chunk,
+ * so memory stays bounded by the chunk and a bad chunk does not undo the ones before it. Invalid rows are
+ * reported and skipped. The statements bypass Hibernate, so nothing is refreshed per row; once the file is
+ * done the publication caches are evicted and a single catalog-wide change event rebuilds the rest.
+ */
+@Service
+public class CatalogImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogImportService.class);
+
+    // One statement per chunk, rows passed as parallel arrays. Rows identical to the stored publication are
+    // skipped by the WHERE (no dead tuple, nothing returned); xmax = 0 marks a freshly inserted row.
+    // New rows take their id from the column default, which is safe alongside Hibernate's pooled sequence.
+    private static final String UPSERT_SQL =
+            "INSERT INTO publications (title, type, description, price, image, issues_per_year, city, category,"
+            + "  featured, rating, review_count, rating_count) "
+            + "SELECT d.title, d.type, d.description, d.price, d.image, d.issues_per_year, d.city, d.category,"
+            + "  d.featured, 0, 0, 0 "
+            + "FROM unnest(?::text[], ?::text[], ?::text[], ?::float8[], ?::text[], ?::int[], ?::text[], ?::text[],"
+            + "  ?::boolean[]) AS d(title, type, description, price, image, issues_per_year, city, category, featured) "
+            + "ON CONFLICT (type, title) DO UPDATE SET"
+            + "  description = EXCLUDED.description, price = EXCLUDED.price, image = EXCLUDED.image,"
+            + "  issues_per_year = EXCLUDED.issues_per_year, city = EXCLUDED.city, category = EXCLUDED.category,"
+            + "  featured = EXCLUDED.featured "
+            + "WHERE (publications.description, publications.price, publications.image, publications.issues_per_year,"
+            + "  publications.city, publications.category, publications.featured) IS DISTINCT FROM"
+            + "  (EXCLUDED.description, EXCLUDED.price, EXCLUDED.image, EXCLUDED.issues_per_year,"
+            + "  EXCLUDED.city, EXCLUDED.category, EXCLUDED.featured) "
+            + "RETURNING (xmax = 0)";
+
+    @Value("${catalog.import.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${catalog.import.max-reported-errors:100}")
+    private int maxReportedErrors;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final ReentrantLock importLock = new ReentrantLock();
+    private TransactionTemplate chunkTransaction;
+
+    @PostConstruct
+    void init() {
+        chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    // One import at a time: two concurrent imports of overlapping files would only contend on the same rows
+    @Timed("readsphere.catalog.import")
+    public CatalogImportResult importCatalog(InputStream input, CatalogFormat format) {
+        if (!importLock.tryLock()) {
+            throw new ResponseStatusException(HttpStatus.CONFLICT, "A catalog import is already running");
+        }
+        try {
+            return runImport(input, format);
+        } finally {
+            importLock.unlock();
+        }
+    }
+
+    private CatalogImportResult runImport(InputStream input, CatalogFormat format) {
+        long start = System.nanoTime();
+        CatalogImportResult result = new CatalogImportResult(maxReportedErrors);
+        // Keyed by (type, title) so a publication repeated within a chunk is written once, last row winning
+        Map<String, PendingRow> chunk = new LinkedHashMap<>();
+        long rowNumber = 0;
+
+        try (Reader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 1 << 16)) {
+            RowSource source = format == CatalogFormat.CSV ? csvSource(reader) : jsonSource(reader);
+            while (true) {
+                Map<String, String> fields;
+                try {
+                    fields = source.next();
+                } catch (IllegalArgumentException e) {
+                    result.recordRow();
+                    result.recordError(++rowNumber, e.getMessage());
+                    continue;
+                }
+                if (fields == null) {
+                    break;
+                }
+                rowNumber++;
+                result.recordRow();
+
+                CatalogImportRow row;
+                try {
+                    row = CatalogImportRow.parse(fields);
+                } catch (IllegalArgumentException e) {
+                    result.recordError(rowNumber, e.getMessage());
+                    continue;
+                }
+                if (chunk.put(row.key(), new PendingRow(rowNumber, row)) != null) {
+                    result.recordSuperseded();
+                }
+                if (chunk.size() >= batchSize) {
+                    flush(chunk, result);
+                }
+            }
+        } catch (IOException e) {
+            // Unreadable from here on (malformed JSON, unterminated quote): keep what was already imported
+            result.recordError(rowNumber + 1, "Unreadable input, import stopped: " + e.getMessage());
+        }
+        flush(chunk, result);
+
+        result.finish((System.nanoTime() - start) / 1_000_000);
+        if (result.hasChanges()) {
+            refreshCatalog();
+        }
+        log.info("Catalog import: {} rows, {} inserted, {} updated, {} unchanged, {} rejected in {} ms",
+                result.getRowsRead(), result.getInserted(), result.getUpdated(), result.getUnchanged(),
+                result.getRejected(), result.getMillis());
+        return result;
+    }
+
+    private void flush(Map<String, PendingRow> chunk, CatalogImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<PendingRow> rows = new ArrayList<>(chunk.values());
+        chunk.clear();
+        try {
+            List<Boolean> written = chunkTransaction.execute(status -> jdbcTemplate.execute(
+                    (Connection connection) -> upsert(connection, rows)));
+            int inserted = 0;
+            for (Boolean isInsert : written) {
+                if (isInsert) {
+                    inserted++;
+                }
+            }
+            int updated = written.size() - inserted;
+            result.recordBatch(inserted, updated, rows.size() - written.size());
+        } catch (DataAccessException e) {
+            log.warn("Catalog import chunk of {} rows failed", rows.size(), e);
+            String message = "Chunk failed, rows not imported: " + e.getMostSpecificCause().getMessage();
+            rows.forEach(row -> result.recordError(row.number, message));
+        }
+    }
+
+    private static List<Boolean> upsert(Connection connection, List<PendingRow> rows) throws SQLException {
+        int size = rows.size();
+        String[] titles = new String[size];
+        String[] types = new String[size];
+        String[] descriptions = new String[size];
+        Double[] prices = new Double[size];
+        String[] images = new String[size];
+        Integer[] issues = new Integer[size];
+        String[] cities = new String[size];
+        String[] categories = new String[size];
+        Boolean[] featured = new Boolean[size];
+        for (int i = 0; i < size; i++) {
+            CatalogImportRow row = rows.get(i).row;
+            titles[i] = row.getTitle();
+            types[i] = row.getType().name();
+            descriptions[i] = row.getDescription();
+            prices[i] = row.getPrice();
+            images[i] = row.getImage();
+            issues[i] = row.getIssuesPerYear();
+            cities[i] = row.getCity();
+            categories[i] = row.getCategory();
+            featured[i] = row.isFeatured();
+        }
+
+        try (PreparedStatement ps = connection.prepareStatement(UPSERT_SQL)) {
+            ps.setArray(1, connection.createArrayOf("text", titles));
+            ps.setArray(2, connection.createArrayOf("text", types));
+            ps.setArray(3, connection.createArrayOf("text", descriptions));
+            ps.setArray(4, connection.createArrayOf("float8", prices));
+            ps.setArray(5, connection.createArrayOf("text", images));
+            ps.setArray(6, connection.createArrayOf("integer", issues));
+            ps.setArray(7, connection.createArrayOf("text", cities));
+            ps.setArray(8, connection.createArrayOf("text", categories));
+            ps.setArray(9, connection.createArrayOf("boolean", featured));
+            List<Boolean> written = new ArrayList<>(size);
+            try (ResultSet rs = ps.executeQuery()) {
+                while (rs.next()) {
+                    written.add(rs.getBoolean(1));
+                }
+            }
+            return written;
+        }
+    }
+
+    // Once per import instead of per row: cached entities and query results go, and one catalog-wide event
+    // (no transaction is active, so listeners run now) rebuilds the catalog cache and search indexes
+    private void refreshCatalog() {
+        org.hibernate.Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evict(Publication.class);
+        cache.evictDefaultQueryRegion();
+        eventPublisher.publishEvent(PublicationChangedEvent.catalogWide());
+    }
+
+    private interface RowSource {
+        // Raw fields of the next row keyed by normalized column name, or null at end of input. Throws
+        // IllegalArgumentException for a row that cannot be read but leaves the input readable.
+        Map<String, String> next() throws IOException;
+    }
+
+    private static RowSource csvSource(Reader reader) throws IOException {
+        CatalogCsvReader csv = new CatalogCsvReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return () -> null;
+        }
+        List<String> columns = header.stream().map(CatalogImportRow::normalizeColumn).toList();
+        if (!columns.contains("title")) {
+            throw new RuntimeException("CSV header must name the columns (title, type, price, issuesPerYear, ...)");
+        }
+        return () -> {
+            List<String> record = csv.next();
+            if (record == null) {
+                return null;
+            }
+            if (record.size() > columns.size()) {
+                throw new IllegalArgumentException("record has " + record.size() + " fields, header has "
+                        + columns.size());
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (int i = 0; i < record.size(); i++) {
+                fields.put(columns.get(i), record.get(i));
+            }
+            return fields;
+        };
+    }
+
+    // Expects a top-level array of flat objects; only one object is held in memory at a time
+    private RowSource jsonSource(Reader reader) throws IOException {
+        JsonParser parser = objectMapper.getFactory().createParser(reader);
+        if (parser.nextToken() != JsonToken.START_ARRAY) {
+            throw new RuntimeException("JSON import must be an array of publication objects");
+        }
+        return () -> {
+            JsonToken token = parser.nextToken();
+            if (token == JsonToken.END_ARRAY || token == null) {
+                return null;
+            }
+            JsonNode node = objectMapper.readTree(parser);
+            if (!node.isObject()) {
+                throw new IllegalArgumentException("row is not an object");
+            }
+            Map<String, String> fields = new HashMap<>();
+            Iterator<Map.Entry<String, JsonNode>> entries = node.fields();
+            while (entries.hasNext()) {
+                Map.Entry<String, JsonNode> entry = entries.next();
+                JsonNode value = entry.getValue();
+                if (value.isContainerNode()) {
+                    throw new IllegalArgumentException(entry.getKey() + " must be a plain value");
+                }
+                if (!value.isNull()) {
+                    fields.put(CatalogImportRow.normalizeColumn(entry.getKey()), value.asText());
+                }
+            }
+            return fields;
+        };
+    }
+
+    private static class PendingRow {
+        private final long number;
+        private final CatalogImportRow row;
+
+        PendingRow(long number, CatalogImportRow row) {
+            this.number = number;
+            this.row = row;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.readsphere.config;
+
+import com.readsphere.cache.CacheStats;
+import com.readsphere.cache.PublicationCatalogCache;
+import com.readsphere.moderation.ReviewModerationPipeline;
+import com.readsphere.security.JwtAuthenticationFilter;
+import com.readsphere.security.JwtUtil;
+import com.readsphere.security.PasswordHashingService;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Publishes the counters the in-process caches, the moderation pipeline and the hashing pool already keep
+ * (also served as JSON under /api/admin/...) as meters, so they show up in the Prometheus scrape.
+ */
+@Component
+public class ApplicationStatsMetrics implements MeterBinder {
+
+    @Autowired
+    private PublicationCatalogCache catalogCache;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Autowired
+    private ReviewModerationPipeline moderationPipeline;
+
+    @Autowired
+    private PasswordHashingService passwordHashing;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bindCache(registry, "publications", catalogCache::getStats);
+        bindCache(registry, "jwtClaims", () -> jwtUtil.getClaimsCache().getStats());
+        bindCache(registry, "principals", () -> jwtAuthenticationFilter.getPrincipalCache().getStats());
+
+        counter(registry, "readsphere.moderation.accepted", moderationPipeline, p -> p.getStats().getAccepted());
+        counter(registry, "readsphere.moderation.rejected.queue.full", moderationPipeline,
+                p -> p.getStats().getRejectedQueueFull());
+        counter(registry, "readsphere.moderation.submitted", moderationPipeline, p -> p.getStats().getSubmitted());
+        counter(registry, "readsphere.moderation.auto.rejected", moderationPipeline,
+                p -> p.getStats().getAutoRejected());
+        counter(registry, "readsphere.moderation.invalid", moderationPipeline, p -> p.getStats().getInvalid());
+        counter(registry, "readsphere.moderation.failed", moderationPipeline, p -> p.getStats().getFailed());
+        Gauge.builder("readsphere.moderation.queue.depth", moderationPipeline, p -> p.getStats().getQueueDepth())
+                .register(registry);
+        Gauge.builder("readsphere.moderation.workers.active", moderationPipeline,
+                p -> p.getStats().getActiveWorkers()).register(registry);
+
+        counter(registry, "readsphere.hashing.hashes", passwordHashing, h -> h.getStats().getHashes());
+        counter(registry, "readsphere.hashing.rejected.queue.full", passwordHashing,
+                h -> h.getStats().getRejectedQueueFull());
+        counter(registry, "readsphere.hashing.timed.out", passwordHashing, h -> h.getStats().getTimedOut());
+        counter(registry, "readsphere.hashing.rate.limited", passwordHashing, h -> h.getStats().getRateLimited());
+        counter(registry, "readsphere.hashing.rehashed", passwordHashing, h -> h.getStats().getRehashed());
+        Gauge.builder("readsphere.hashing.queue.depth", passwordHashing, h -> h.getStats().getQueueDepth())
+                .register(registry);
+        Gauge.builder("readsphere.hashing.threads.active", passwordHashing, h -> h.getStats().getActiveThreads())
+                .register(registry);
+    }
+
+    private static void bindCache(MeterRegistry registry, String cache, Supplier<CacheStats> stats) {
+        FunctionCounter.builder("readsphere.cache.gets", stats, s -> s.get().getHits())
+                .tags("cache", cache, "result", "hit").register(registry);
+        FunctionCounter.builder("readsphere.cache.gets", stats, s -> s.get().getMisses())
+                .tags("cache", cache, "result", "miss").register(registry);
+        FunctionCounter.builder("readsphere.cache.loads", stats, s -> s.get().getLoads())
+                .tag("cache", cache).register(registry);
+        FunctionCounter.builder("readsphere.cache.evictions", stats, s -> s.get().getEvictions())
+                .tag("cache", cache).register(registry);
+    }
+
+    private static <T> void counter(MeterRegistry registry, String name, T source, ToDoubleFunction<T> count) {
+        FunctionCounter.builder(name, source, count).register(registry);
+    }
+}
@@ -8,6 +8,9 @@ import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.List;
+
 @Component
 public class DataSeeder implements CommandLineRunner {
 
@@ -29,7 +32,8 @@ public class DataSeeder implements CommandLineRunner {
 
         // Seed publications if not exists
         if (publicationRepository.count() == 0) {
-            seedPublications();
+            // One saveAll, so the inserts are batched
+            publicationRepository.saveAll(seedPublications());
         }
     }
 
@@ -69,39 +73,42 @@ public class DataSeeder implements CommandLineRunner {
         userRepository.save(adminUser);
     }
 
-    private void seedPublications() {
-        createMagazine(1L, "The Economist", "An international weekly newspaper printed in magazine-format and published digitally that focuses on current affairs, international business, politics, and technology.",
-                189.99, "https://images.unsplash.com/photo-1504711434969-e33886168f5c?w=400&h=500&fit=crop", 51, "Business & Finance", 4.8, 1247, true);
+    private List<Publication> seedPublications() {
+        List<Publication> publications = new ArrayList<>();
+        publications.add(createMagazine(1L, "The Economist", "An international weekly newspaper printed in magazine-format and published digitally that focuses on current affairs, international business, politics, and technology.",
+                189.99, "https://images.unsplash.com/photo-1504711434969-e33886168f5c?w=400&h=500&fit=crop", 51, "Business & Finance", 4.8, 1247, true));
+
+        publications.add(createMagazine(2L, "National Geographic", "The official magazine of the National Geographic Society, covering science, geography, history, and world culture.",
+                39.99, "https://images.unsplash.com/photo-1518495973542-4542c06a5843?w=400&h=500&fit=crop", 12, "Science & Nature", 4.9, 2341, true));
 
-        createMagazine(2L, "National Geographic", "The official magazine of the National Geographic Society, covering science, geography, history, and world culture.",
-                39.99, "https://images.unsplash.com/photo-1518495973542-4542c06a5843?w=400&h=500&fit=crop", 12, "Science & Nature", 4.9, 2341, true);
+        publications.add(createMagazine(3L, "The New Yorker", "An American magazine featuring journalism, commentary, criticism, essays, fiction, satire, cartoons, and poetry.",
+                149.99, "https://images.unsplash.com/photo-1585829365295-ab7cd400c167?w=400&h=500&fit=crop", 47, "Culture & Literature", 4.7, 1893, true));
 
-        createMagazine(3L, "The New Yorker", "An American magazine featuring journalism, commentary, criticism, essays, fiction, satire, cartoons, and poetry.",
-                149.99, "https://images.unsplash.com/photo-1585829365295-ab7cd400c167?w=400&h=500&fit=crop", 47, "Culture & Literature", 4.7, 1893, true);
+        publications.add(createMagazine(4L, "Wired", "A monthly magazine that focuses on how emerging technologies affect culture, the economy, and politics.",
+                29.99, "https://images.unsplash.com/photo-1526374965328-7f61d4dc18c5?w=400&h=500&fit=crop", 12, "Technology", 4.5, 987, false));
 
-        createMagazine(4L, "Wired", "A monthly magazine that focuses on how emerging technologies affect culture, the economy, and politics.",
-                29.99, "https://images.unsplash.com/photo-1526374965328-7f61d4dc18c5?w=400&h=500&fit=crop", 12, "Technology", 4.5, 987, false);
+        publications.add(createMagazine(5L, "Time Magazine", "An American news magazine and news website published and based in New York City.",
+                49.99, "https://images.unsplash.com/photo-1495020689067-958852a7765e?w=400&h=500&fit=crop", 26, "News & Politics", 4.4, 1567, false));
 
-        createMagazine(5L, "Time Magazine", "An American news magazine and news website published and based in New York City.",
-                49.99, "https://images.unsplash.com/photo-1495020689067-958852a7765e?w=400&h=500&fit=crop", 26, "News & Politics", 4.4, 1567, false);
+        publications.add(createMagazine(9L, "Forbes", "An American business magazine featuring original articles on finance, industry, investing, and marketing topics.",
+                59.99, "https://images.unsplash.com/photo-1526374965328-7f61d4dc18c5?w=400&h=500&fit=crop", 8, "Business & Finance", 4.5, 1234, false));
 
-        createMagazine(9L, "Forbes", "An American business magazine featuring original articles on finance, industry, investing, and marketing topics.",
-                59.99, "https://images.unsplash.com/photo-1526374965328-7f61d4dc18c5?w=400&h=500&fit=crop", 8, "Business & Finance", 4.5, 1234, false);
+        publications.add(createNewspaper(6L, "The Wall Street Journal", "An American business-focused, English-language international daily newspaper based in New York City.",
+                38.99, "https://images.unsplash.com/photo-1504711434969-e33886168f5c?w=400&h=500&fit=crop", "New York", "Business & Finance", 4.8, 3421, true));
 
-        createNewspaper(6L, "The Wall Street Journal", "An American business-focused, English-language international daily newspaper based in New York City.",
-                38.99, "https://images.unsplash.com/photo-1504711434969-e33886168f5c?w=400&h=500&fit=crop", "New York", "Business & Finance", 4.8, 3421, true);
+        publications.add(createNewspaper(7L, "The New York Times", "An American daily newspaper based in New York City with a worldwide readership.",
+                17.99, "https://images.unsplash.com/photo-1585829365295-ab7cd400c167?w=400&h=500&fit=crop", "New York", "News & Politics", 4.7, 4532, false));
 
-        createNewspaper(7L, "The New York Times", "An American daily newspaper based in New York City with a worldwide readership.",
-                17.99, "https://images.unsplash.com/photo-1585829365295-ab7cd400c167?w=400&h=500&fit=crop", "New York", "News & Politics", 4.7, 4532, false);
+        publications.add(createNewspaper(8L, "The Washington Post", "An American daily newspaper published in Washington, D.C. It is the most widely circulated newspaper within the Washington metropolitan area.",
+                15.99, "https://images.unsplash.com/photo-1495020689067-958852a7765e?w=400&h=500&fit=crop", "Washington D.C.", "News & Politics", 4.6, 2876, false));
 
-        createNewspaper(8L, "The Washington Post", "An American daily newspaper published in Washington, D.C. It is the most widely circulated newspaper within the Washington metropolitan area.",
-                15.99, "https://images.unsplash.com/photo-1495020689067-958852a7765e?w=400&h=500&fit=crop", "Washington D.C.", "News & Politics", 4.6, 2876, false);
+        publications.add(createNewspaper(10L, "Chicago Tribune", "A daily newspaper based in Chicago, Illinois, United States.",
+                12.99, "https://images.unsplash.com/photo-1504711434969-e33886168f5c?w=400&h=500&fit=crop", "Chicago", "News & Politics", 4.3, 876, false));
 
-        createNewspaper(10L, "Chicago Tribune", "A daily newspaper based in Chicago, Illinois, United States.",
-                12.99, "https://images.unsplash.com/photo-1504711434969-e33886168f5c?w=400&h=500&fit=crop", "Chicago", "News & Politics", 4.3, 876, false);
+        return publications;
     }
 
-    private void createMagazine(Long id, String title, String description, double price, String image,
+    private Publication createMagazine(Long id, String title, String description, double price, String image,
                                  int issuesPerYear, String category, double rating, int reviewCount, boolean featured) {
         Publication pub = new Publication();
         pub.setTitle(title);
@@ -111,13 +118,12 @@ public class DataSeeder implements CommandLineRunner {
         pub.setImage(image);
         pub.setIssuesPerYear(issuesPerYear);
         pub.setCategory(category);
-        pub.setRating(rating);
-        pub.setReviewCount(reviewCount);
+        setSeededRatings(pub, rating, reviewCount);
         pub.setFeatured(featured);
-        publicationRepository.save(pub);
+        return pub;
     }
 
-    private void createNewspaper(Long id, String title, String description, double price, String image,
+    private Publication createNewspaper(Long id, String title, String description, double price, String image,
                                   String city, String category, double rating, int reviewCount, boolean featured) {
         Publication pub = new Publication();
         pub.setTitle(title);
@@ -127,11 +133,20 @@ public class DataSeeder implements CommandLineRunner {
         pub.setImage(image);
         pub.setCity(city);
         pub.setCategory(category);
-        pub.setRating(rating);
-        pub.setReviewCount(reviewCount);
+        setSeededRatings(pub, rating, reviewCount);
         pub.setFeatured(featured);
         // Newspapers are daily
         pub.setIssuesPerYear(365);
-        publicationRepository.save(pub);
+        return pub;
+    }
+
+    // Seeded figures are the base the review aggregates build on, so reconciliation keeps them
+    private static void setSeededRatings(Publication pub, double rating, int reviewCount) {
+        pub.setBaseRating(rating);
+        pub.setBaseRatingCount(reviewCount);
+        pub.setBaseReviewCount(reviewCount);
+        pub.setRating(rating);
+        pub.setRatingCount(reviewCount);
+        pub.setReviewCount(reviewCount);
     }
 }
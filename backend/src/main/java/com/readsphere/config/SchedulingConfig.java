@@ -0,0 +1,10 @@
+package com.readsphere.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// Enables @Scheduled maintenance jobs (rating reconciliation)
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
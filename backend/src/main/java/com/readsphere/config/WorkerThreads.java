@@ -0,0 +1,34 @@
+package com.readsphere.config;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Thread factories for the application's own executors. They follow the same switch as Spring Boot's
+ * request handling: with {@code spring.threads.virtual.enabled=true} on JDK 21+ workers are virtual
+ * threads, otherwise named platform threads. Executors stay bounded either way, since the worker count
+ * is what caps concurrent JDBC work, not the cost of a thread.
+ */
+@Component
+public class WorkerThreads {
+
+    @Autowired
+    private Environment environment;
+
+    public boolean isVirtual() {
+        return Threading.VIRTUAL.isActive(environment);
+    }
+
+    public ThreadFactory newThreadFactory(String namePrefix) {
+        if (isVirtual()) {
+            return new VirtualThreadTaskExecutor(namePrefix).getVirtualThreadFactory();
+        }
+        return new CustomizableThreadFactory(namePrefix);
+    }
+}
@@ -1,11 +1,39 @@
 package com.readsphere.controller;
 
-import com.readsphere.model.Review;
+import com.readsphere.catalog.CatalogFormat;
+import com.readsphere.catalog.CatalogImportResult;
+import com.readsphere.catalog.CatalogImportService;
+import com.readsphere.cache.CacheStats;
+import com.readsphere.cache.PublicationCatalogCache;
+import com.readsphere.cache.SecondLevelCacheStats;
+import com.readsphere.dto.BulkReviewModerationRequest;
+import com.readsphere.dto.BulkReviewModerationResponse;
+import com.readsphere.dto.CursorPage;
+import com.readsphere.dto.ReviewResponse;
+import com.readsphere.dto.SubscriptionLifecycleResult;
+import com.readsphere.jdbc.SqlChunked;
+import com.readsphere.model.ReviewStatus;
+import com.readsphere.moderation.ModerationStats;
+import com.readsphere.moderation.ReviewModerationPipeline;
+import com.readsphere.security.HashingStats;
+import com.readsphere.security.JwtAuthenticationFilter;
+import com.readsphere.security.JwtUtil;
+import com.readsphere.security.PasswordHashingService;
+import com.readsphere.service.ReviewBulkModerationService;
 import com.readsphere.service.ReviewService;
+import com.readsphere.service.SubscriptionLifecycleJob;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.Map;
 
@@ -16,31 +44,118 @@ public class AdminController {
     @Autowired
     private ReviewService reviewService;
 
+    @Autowired
+    private ReviewBulkModerationService bulkModerationService;
+
+    @Autowired
+    private PublicationCatalogCache catalogCache;
+
+    @Autowired
+    private JwtUtil jwtUtil;
+
+    @Autowired
+    private JwtAuthenticationFilter jwtAuthenticationFilter;
+
+    @Autowired
+    private ReviewModerationPipeline moderationPipeline;
+
+    @Autowired
+    private PasswordHashingService passwordHashing;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private SubscriptionLifecycleJob subscriptionLifecycleJob;
+
+    @Autowired
+    private CatalogImportService catalogImportService;
+
     @GetMapping("/reviews/pending")
-    public ResponseEntity<List<Review>> getPendingReviews() {
+    public ResponseEntity<List<ReviewResponse>> getPendingReviews() {
         return ResponseEntity.ok(reviewService.getPendingReviews());
     }
 
     @GetMapping("/reviews/approved")
-    public ResponseEntity<List<Review>> getApprovedReviews() {
+    public ResponseEntity<List<ReviewResponse>> getApprovedReviews() {
         return ResponseEntity.ok(reviewService.getApprovedReviews());
     }
 
     @GetMapping("/reviews/rejected")
-    public ResponseEntity<List<Review>> getRejectedReviews() {
+    public ResponseEntity<List<ReviewResponse>> getRejectedReviews() {
         return ResponseEntity.ok(reviewService.getRejectedReviews());
     }
 
+    @GetMapping("/reviews/page")
+    public ResponseEntity<CursorPage<ReviewResponse>> getReviewPage(
+            @RequestParam ReviewStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(reviewService.getReviewPage(status, cursor, size));
+    }
+
     @PutMapping("/reviews/{id}/approve")
-    public ResponseEntity<Review> approveReview(@PathVariable Long id) {
+    public ResponseEntity<ReviewResponse> approveReview(@PathVariable Long id) {
         return ResponseEntity.ok(reviewService.approveReview(id));
     }
 
     @PutMapping("/reviews/{id}/reject")
-    public ResponseEntity<Review> rejectReview(
+    public ResponseEntity<ReviewResponse> rejectReview(
             @PathVariable Long id,
             @RequestBody Map<String, String> body) {
         String reason = body.get("reason");
         return ResponseEntity.ok(reviewService.rejectReview(id, reason));
     }
+
+    @PostMapping("/reviews/bulk")
+    public ResponseEntity<BulkReviewModerationResponse> moderateReviews(
+            @RequestBody BulkReviewModerationRequest request) {
+        return ResponseEntity.ok(bulkModerationService.moderate(request));
+    }
+
+    @GetMapping("/moderation/stats")
+    public ResponseEntity<ModerationStats> getModerationStats() {
+        return ResponseEntity.ok(moderationPipeline.getStats());
+    }
+
+    // Streams the uploaded CSV/JSON into the catalog; the response reports per-row errors
+    @PostMapping(value = "/publications/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @SqlChunked
+    public ResponseEntity<CatalogImportResult> importCatalog(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format) throws IOException {
+        try (InputStream input = file.getInputStream()) {
+            return ResponseEntity.ok(catalogImportService.importCatalog(input,
+                    CatalogFormat.resolve(format, file.getOriginalFilename())));
+        } catch (ResponseStatusException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            // Unknown format or an unusable header / document shape; row problems are in the report instead
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
+        }
+    }
+
+    @PostMapping("/subscriptions/lifecycle/run")
+    public ResponseEntity<SubscriptionLifecycleResult> runSubscriptionLifecycle() {
+        return ResponseEntity.ok(subscriptionLifecycleJob.run());
+    }
+
+    @GetMapping("/cache/hibernate/stats")
+    public ResponseEntity<SecondLevelCacheStats> getHibernateCacheStats() {
+        return ResponseEntity.ok(SecondLevelCacheStats.from(
+                entityManagerFactory.unwrap(SessionFactory.class).getStatistics()));
+    }
+
+    @GetMapping("/security/hashing/stats")
+    public ResponseEntity<HashingStats> getHashingStats() {
+        return ResponseEntity.ok(passwordHashing.getStats());
+    }
+
+    @GetMapping("/cache/stats")
+    public ResponseEntity<Map<String, CacheStats>> getCacheStats() {
+        return ResponseEntity.ok(Map.of(
+                "publications", catalogCache.getStats(),
+                "jwtClaims", jwtUtil.getClaimsCache().getStats(),
+                "principals", jwtAuthenticationFilter.getPrincipalCache().getStats()));
+    }
 }
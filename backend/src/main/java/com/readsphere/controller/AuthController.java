@@ -3,10 +3,13 @@ package com.readsphere.controller;
 import com.readsphere.dto.AuthResponse;
 import com.readsphere.dto.LoginRequest;
 import com.readsphere.dto.SignupRequest;
+import com.readsphere.security.LoginRateLimiter;
 import com.readsphere.service.AuthService;
+import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 @RestController
 @RequestMapping("/api/auth")
@@ -15,19 +18,29 @@ public class AuthController {
     @Autowired
     private AuthService authService;
 
+    @Autowired
+    private LoginRateLimiter rateLimiter;
+
     @PostMapping("/signup")
-    public ResponseEntity<AuthResponse> signup(@RequestBody SignupRequest request) {
+    public ResponseEntity<AuthResponse> signup(@RequestBody SignupRequest request, HttpServletRequest http) {
         try {
+            rateLimiter.checkSignup(http.getRemoteAddr());
             return ResponseEntity.ok(authService.signup(request));
+        } catch (ResponseStatusException e) {
+            // 429/503 from rate shaping or the hashing pool must reach the client as-is
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
     }
 
     @PostMapping("/login")
-    public ResponseEntity<AuthResponse> login(@RequestBody LoginRequest request) {
+    public ResponseEntity<AuthResponse> login(@RequestBody LoginRequest request, HttpServletRequest http) {
         try {
+            rateLimiter.checkLogin(request.getUsername(), http.getRemoteAddr());
             return ResponseEntity.ok(authService.login(request));
+        } catch (ResponseStatusException e) {
+            throw e;
         } catch (Exception e) {
             return ResponseEntity.badRequest().build();
         }
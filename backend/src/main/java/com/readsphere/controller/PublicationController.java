@@ -1,6 +1,9 @@
 package com.readsphere.controller;
 
-import com.readsphere.model.Publication;
+import com.readsphere.dto.CursorPage;
+import com.readsphere.dto.PublicationResponse;
+import com.readsphere.dto.SuggestionResponse;
+import com.readsphere.jdbc.SqlBudget;
 import com.readsphere.service.PublicationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -8,7 +11,9 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+// Catalog reads come from the in-memory catalog and search index, or one query
 @RestController
+@SqlBudget(SqlBudget.SINGLE_QUERY)
 @RequestMapping("/api/publications")
 public class PublicationController {
 
@@ -16,27 +21,51 @@ public class PublicationController {
     private PublicationService publicationService;
 
     @GetMapping
-    public ResponseEntity<List<Publication>> getAllPublications() {
+    public ResponseEntity<List<PublicationResponse>> getAllPublications() {
         return ResponseEntity.ok(publicationService.getAllPublications());
     }
 
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<PublicationResponse>> getPublicationPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(publicationService.getPublicationPage(cursor, size));
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<Publication> getPublicationById(@PathVariable Long id) {
+    public ResponseEntity<PublicationResponse> getPublicationById(@PathVariable Long id) {
         return ResponseEntity.ok(publicationService.getPublicationById(id));
     }
 
     @GetMapping("/type/{type}")
-    public ResponseEntity<List<Publication>> getPublicationsByType(@PathVariable String type) {
+    public ResponseEntity<List<PublicationResponse>> getPublicationsByType(@PathVariable String type) {
         return ResponseEntity.ok(publicationService.getPublicationsByType(type));
     }
 
     @GetMapping("/featured")
-    public ResponseEntity<List<Publication>> getFeaturedPublications() {
+    public ResponseEntity<List<PublicationResponse>> getFeaturedPublications() {
         return ResponseEntity.ok(publicationService.getFeaturedPublications());
     }
 
+    @GetMapping("/popular")
+    public ResponseEntity<List<PublicationResponse>> getPopularPublications(
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(publicationService.getPopularPublications(size));
+    }
+
     @GetMapping("/search")
-    public ResponseEntity<List<Publication>> searchPublications(@RequestParam String query) {
-        return ResponseEntity.ok(publicationService.searchPublications(query));
+    public ResponseEntity<List<PublicationResponse>> searchPublications(
+            @RequestParam(defaultValue = "") String query,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(publicationService.searchPublications(query, type, category, size));
+    }
+
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionResponse>> suggestPublications(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(required = false) Integer limit) {
+        return ResponseEntity.ok(publicationService.suggestPublications(prefix, limit));
     }
 }
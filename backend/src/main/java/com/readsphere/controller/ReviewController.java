@@ -1,12 +1,19 @@
 package com.readsphere.controller;
 
+import com.readsphere.dto.CursorPage;
 import com.readsphere.dto.ReviewRequest;
-import com.readsphere.model.Review;
+import com.readsphere.dto.ReviewResponse;
+import com.readsphere.dto.ReviewSubmissionResponse;
+import com.readsphere.jdbc.SqlBudget;
+import com.readsphere.model.ReviewStatus;
+import com.readsphere.moderation.ReviewModerationPipeline;
 import com.readsphere.service.ReviewService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.util.List;
 import java.util.Map;
@@ -18,42 +25,88 @@ public class ReviewController {
     @Autowired
     private ReviewService reviewService;
 
+    @Autowired
+    private ReviewModerationPipeline moderationPipeline;
+
+    @SqlBudget(SqlBudget.SINGLE_QUERY)
     @GetMapping("/user")
-    public ResponseEntity<List<Review>> getUserReviews(Authentication authentication) {
+    public ResponseEntity<List<ReviewResponse>> getUserReviews(Authentication authentication) {
         String username = authentication.getName();
         return ResponseEntity.ok(reviewService.getUserReviews(username));
     }
 
+    @SqlBudget(SqlBudget.SINGLE_QUERY)
+    @GetMapping("/user/page")
+    public ResponseEntity<CursorPage<ReviewResponse>> getUserReviewPage(
+            Authentication authentication,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        String username = authentication.getName();
+        return ResponseEntity.ok(reviewService.getUserReviewPage(username, cursor, size));
+    }
+
     @PostMapping
-    public ResponseEntity<Review> submitReview(
+    public ResponseEntity<ReviewResponse> submitReview(
             Authentication authentication,
             @RequestBody ReviewRequest request) {
         String username = authentication.getName();
         return ResponseEntity.ok(reviewService.submitReview(username, request));
     }
 
+    // Asynchronous submission: acknowledged with a ticket right away, moderated on the pipeline's workers
+    @PostMapping("/submissions")
+    public ResponseEntity<ReviewSubmissionResponse> enqueueReview(
+            Authentication authentication,
+            @RequestBody ReviewRequest request) {
+        String username = authentication.getName();
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ReviewSubmissionResponse.from(moderationPipeline.submit(username, request)));
+    }
+
+    @GetMapping("/submissions/{ticketId}")
+    public ResponseEntity<ReviewSubmissionResponse> getSubmission(
+            Authentication authentication,
+            @PathVariable String ticketId) {
+        String username = authentication.getName();
+        return moderationPipeline.getTicket(ticketId, username)
+                .map(ticket -> ResponseEntity.ok(ReviewSubmissionResponse.from(ticket)))
+                .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Submission not found"));
+    }
+
+    @SqlBudget(SqlBudget.SINGLE_QUERY)
     @GetMapping("/pending")
-    public ResponseEntity<List<Review>> getPendingReviews() {
+    public ResponseEntity<List<ReviewResponse>> getPendingReviews() {
         return ResponseEntity.ok(reviewService.getPendingReviews());
     }
 
+    @SqlBudget(SqlBudget.SINGLE_QUERY)
     @GetMapping("/approved")
-    public ResponseEntity<List<Review>> getApprovedReviews() {
+    public ResponseEntity<List<ReviewResponse>> getApprovedReviews() {
         return ResponseEntity.ok(reviewService.getApprovedReviews());
     }
 
+    @SqlBudget(SqlBudget.SINGLE_QUERY)
     @GetMapping("/rejected")
-    public ResponseEntity<List<Review>> getRejectedReviews() {
+    public ResponseEntity<List<ReviewResponse>> getRejectedReviews() {
         return ResponseEntity.ok(reviewService.getRejectedReviews());
     }
 
+    @SqlBudget(SqlBudget.SINGLE_QUERY)
+    @GetMapping("/page")
+    public ResponseEntity<CursorPage<ReviewResponse>> getReviewPage(
+            @RequestParam ReviewStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(reviewService.getReviewPage(status, cursor, size));
+    }
+
     @PutMapping("/{id}/approve")
-    public ResponseEntity<Review> approveReview(@PathVariable Long id) {
+    public ResponseEntity<ReviewResponse> approveReview(@PathVariable Long id) {
         return ResponseEntity.ok(reviewService.approveReview(id));
     }
 
     @PutMapping("/{id}/reject")
-    public ResponseEntity<Review> rejectReview(
+    public ResponseEntity<ReviewResponse> rejectReview(
             @PathVariable Long id,
             @RequestBody Map<String, String> body) {
         String reason = body.get("reason");
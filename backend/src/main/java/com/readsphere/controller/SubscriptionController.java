@@ -1,7 +1,8 @@
 package com.readsphere.controller;
 
 import com.readsphere.dto.PurchaseRequest;
-import com.readsphere.model.UserSubscription;
+import com.readsphere.dto.SubscriptionResponse;
+import com.readsphere.jdbc.SqlBudget;
 import com.readsphere.service.SubscriptionService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -17,20 +18,39 @@ public class SubscriptionController {
     @Autowired
     private SubscriptionService subscriptionService;
 
+    @SqlBudget(SqlBudget.SINGLE_QUERY)
     @GetMapping("/user")
-    public ResponseEntity<List<UserSubscription>> getUserSubscriptions(Authentication authentication) {
+    public ResponseEntity<List<SubscriptionResponse>> getUserSubscriptions(Authentication authentication) {
         String username = authentication.getName();
         return ResponseEntity.ok(subscriptionService.getUserSubscriptions(username));
     }
 
     @PostMapping("/purchase")
-    public ResponseEntity<UserSubscription> purchaseSubscription(
+    public ResponseEntity<SubscriptionResponse> purchaseSubscription(
             Authentication authentication,
             @RequestBody PurchaseRequest request) {
         String username = authentication.getName();
         return ResponseEntity.ok(subscriptionService.purchaseSubscription(username, request));
     }
 
+    @PostMapping("/checkout")
+    public ResponseEntity<List<SubscriptionResponse>> checkout(
+            Authentication authentication,
+            @RequestBody List<PurchaseRequest> requests) {
+        String username = authentication.getName();
+        return ResponseEntity.ok(subscriptionService.checkout(username, requests));
+    }
+
+    @PutMapping("/{id}/auto-renew")
+    public ResponseEntity<Void> setAutoRenew(
+            Authentication authentication,
+            @PathVariable Long id,
+            @RequestParam boolean enabled) {
+        String username = authentication.getName();
+        subscriptionService.setAutoRenew(id, username, enabled);
+        return ResponseEntity.ok().build();
+    }
+
     @DeleteMapping("/{id}/cancel")
     public ResponseEntity<Void> cancelSubscription(
             Authentication authentication,
@@ -1,12 +1,17 @@
 package com.readsphere.controller;
 
+import com.readsphere.config.PaginationSettings;
+import com.readsphere.dto.PointsTransactionResponse;
 import com.readsphere.dto.UserResponse;
+import com.readsphere.jdbc.SqlBudget;
 import com.readsphere.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/users")
 public class UserController {
@@ -14,6 +19,9 @@ public class UserController {
     @Autowired
     private UserService userService;
 
+    @Autowired
+    private PaginationSettings paginationSettings;
+
     @GetMapping("/profile")
     public ResponseEntity<UserResponse> getProfile(Authentication authentication) {
         String username = authentication.getName();
@@ -28,6 +36,15 @@ public class UserController {
         return ResponseEntity.ok(userService.updateProfile(username, request));
     }
 
+    @SqlBudget(SqlBudget.SINGLE_QUERY)
+    @GetMapping("/points/history")
+    public ResponseEntity<List<PointsTransactionResponse>> getPointsHistory(
+            Authentication authentication,
+            @RequestParam(required = false) Integer size) {
+        String username = authentication.getName();
+        return ResponseEntity.ok(userService.getPointsHistory(username, paginationSettings.resolvePageSize(size)));
+    }
+
     @PostMapping("/points/add")
     public ResponseEntity<Void> addPoints(
             Authentication authentication,
@@ -0,0 +1,36 @@
+package com.readsphere.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Either explicit {@code ids}, or a filter over PENDING reviews ({@code publicationId},
+ * {@code submittedBefore}, at most {@code limit}, oldest first) when no ids are given.
+ */
+public class BulkReviewModerationRequest {
+    private String action; // "approve" or "reject"
+    private List<Long> ids;
+    private Long publicationId;
+    private LocalDate submittedBefore;
+    private Integer limit;
+    private String reason; // rejection reason
+
+    // Getters and Setters
+    public String getAction() { return action; }
+    public void setAction(String action) { this.action = action; }
+
+    public List<Long> getIds() { return ids; }
+    public void setIds(List<Long> ids) { this.ids = ids; }
+
+    public Long getPublicationId() { return publicationId; }
+    public void setPublicationId(Long publicationId) { this.publicationId = publicationId; }
+
+    public LocalDate getSubmittedBefore() { return submittedBefore; }
+    public void setSubmittedBefore(LocalDate submittedBefore) { this.submittedBefore = submittedBefore; }
+
+    public Integer getLimit() { return limit; }
+    public void setLimit(Integer limit) { this.limit = limit; }
+
+    public String getReason() { return reason; }
+    public void setReason(String reason) { this.reason = reason; }
+}
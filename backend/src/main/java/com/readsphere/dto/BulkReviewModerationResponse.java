@@ -0,0 +1,41 @@
+package com.readsphere.dto;
+
+import java.util.List;
+
+// Per-item outcome of a bulk moderation call, in request order (filter order when a filter was used)
+public class BulkReviewModerationResponse {
+    private final int requested;
+    private final int succeeded;
+    private final List<ItemResult> results;
+
+    public BulkReviewModerationResponse(List<ItemResult> results) {
+        this.requested = results.size();
+        this.succeeded = (int) results.stream().filter(ItemResult::isSuccess).count();
+        this.results = results;
+    }
+
+    // Getters
+    public int getRequested() { return requested; }
+    public int getSucceeded() { return succeeded; }
+    public int getFailed() { return requested - succeeded; }
+    public List<ItemResult> getResults() { return results; }
+
+    public static class ItemResult {
+        public enum Outcome { APPROVED, REJECTED, NOT_FOUND, NOT_PENDING }
+
+        private final Long id;
+        private final Outcome outcome;
+
+        public ItemResult(Long id, Outcome outcome) {
+            this.id = id;
+            this.outcome = outcome;
+        }
+
+        public Long getId() { return id; }
+        public Outcome getOutcome() { return outcome; }
+
+        public boolean isSuccess() {
+            return outcome == Outcome.APPROVED || outcome == Outcome.REJECTED;
+        }
+    }
+}
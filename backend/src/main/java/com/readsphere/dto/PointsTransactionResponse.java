@@ -0,0 +1,32 @@
+package com.readsphere.dto;
+
+import com.readsphere.model.PointsReason;
+
+import java.time.LocalDateTime;
+
+public class PointsTransactionResponse {
+    private final Long id;
+    private final Integer delta;
+    private final Integer balanceAfter;
+    private final PointsReason reason;
+    private final String reference;
+    private final LocalDateTime createdAt;
+
+    public PointsTransactionResponse(Long id, Integer delta, Integer balanceAfter, PointsReason reason,
+                                     String reference, LocalDateTime createdAt) {
+        this.id = id;
+        this.delta = delta;
+        this.balanceAfter = balanceAfter;
+        this.reason = reason;
+        this.reference = reference;
+        this.createdAt = createdAt;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public Integer getDelta() { return delta; }
+    public Integer getBalanceAfter() { return balanceAfter; }
+    public PointsReason getReason() { return reason; }
+    public String getReference() { return reference; }
+    public LocalDateTime getCreatedAt() { return createdAt; }
+}
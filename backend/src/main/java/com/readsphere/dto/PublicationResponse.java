@@ -0,0 +1,58 @@
+package com.readsphere.dto;
+
+import com.readsphere.model.Publication;
+import com.readsphere.model.PublicationType;
+
+// Read model for catalog endpoints; built directly by JPQL constructor expressions
+public class PublicationResponse {
+    private final Long id;
+    private final String title;
+    private final PublicationType type;
+    private final String description;
+    private final Double price;
+    private final String image;
+    private final Integer issuesPerYear;
+    private final String city;
+    private final String category;
+    private final Double rating;
+    private final Integer reviewCount;
+    private final Boolean featured;
+
+    public PublicationResponse(Long id, String title, PublicationType type, String description, Double price,
+                               String image, Integer issuesPerYear, String city, String category,
+                               Double rating, Integer reviewCount, Boolean featured) {
+        this.id = id;
+        this.title = title;
+        this.type = type;
+        this.description = description;
+        this.price = price;
+        this.image = image;
+        this.issuesPerYear = issuesPerYear;
+        this.city = city;
+        this.category = category;
+        this.rating = rating;
+        this.reviewCount = reviewCount;
+        this.featured = featured;
+    }
+
+    public static PublicationResponse from(Publication publication) {
+        return new PublicationResponse(publication.getId(), publication.getTitle(), publication.getType(),
+                publication.getDescription(), publication.getPrice(), publication.getImage(),
+                publication.getIssuesPerYear(), publication.getCity(), publication.getCategory(),
+                publication.getRating(), publication.getReviewCount(), publication.getFeatured());
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public PublicationType getType() { return type; }
+    public String getDescription() { return description; }
+    public Double getPrice() { return price; }
+    public String getImage() { return image; }
+    public Integer getIssuesPerYear() { return issuesPerYear; }
+    public String getCity() { return city; }
+    public String getCategory() { return category; }
+    public Double getRating() { return rating; }
+    public Integer getReviewCount() { return reviewCount; }
+    public Boolean getFeatured() { return featured; }
+}
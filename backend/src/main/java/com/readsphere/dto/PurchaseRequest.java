@@ -4,6 +4,7 @@ public class PurchaseRequest {
     private Long publicationId;
     private String paymentMethod; // "card", "points", or "mixed"
     private Integer pointsToUse;
+    private Boolean autoRenew; // optional, defaults to false
 
     // Getters and Setters
     public Long getPublicationId() { return publicationId; }
@@ -14,4 +15,7 @@ public class PurchaseRequest {
 
     public Integer getPointsToUse() { return pointsToUse; }
     public void setPointsToUse(Integer pointsToUse) { this.pointsToUse = pointsToUse; }
+
+    public Boolean getAutoRenew() { return autoRenew; }
+    public void setAutoRenew(Boolean autoRenew) { this.autoRenew = autoRenew; }
 }
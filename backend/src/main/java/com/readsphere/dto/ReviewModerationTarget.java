@@ -0,0 +1,27 @@
+package com.readsphere.dto;
+
+import com.readsphere.model.ReviewStatus;
+
+// Just the columns bulk moderation needs, loaded without materializing Review entities
+public class ReviewModerationTarget {
+    private final Long id;
+    private final Long userId;
+    private final Long publicationId;
+    private final Integer rating;
+    private final ReviewStatus status;
+
+    public ReviewModerationTarget(Long id, Long userId, Long publicationId, Integer rating, ReviewStatus status) {
+        this.id = id;
+        this.userId = userId;
+        this.publicationId = publicationId;
+        this.rating = rating;
+        this.status = status;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public Long getUserId() { return userId; }
+    public Long getPublicationId() { return publicationId; }
+    public Integer getRating() { return rating; }
+    public ReviewStatus getStatus() { return status; }
+}
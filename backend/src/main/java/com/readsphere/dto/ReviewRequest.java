@@ -9,6 +9,7 @@ public class ReviewRequest {
     private String articleName;
     private String authorLastName;
     private String content;
+    private Integer rating;
 
     // Getters and Setters
     public Long getSubscriptionId() { return subscriptionId; }
@@ -28,4 +29,7 @@ public class ReviewRequest {
 
     public String getContent() { return content; }
     public void setContent(String content) { this.content = content; }
+
+    public Integer getRating() { return rating; }
+    public void setRating(Integer rating) { this.rating = rating; }
 }
@@ -0,0 +1,86 @@
+package com.readsphere.dto;
+
+import com.readsphere.model.Review;
+import com.readsphere.model.ReviewStatus;
+
+import java.time.LocalDate;
+
+// Read model for review endpoints: flattens the user/subscription/publication associations to ids and labels
+public class ReviewResponse {
+    private final Long id;
+    private final Long userId;
+    private final String username;
+    private final Long subscriptionId;
+    private final Long publicationId;
+    private final String publicationTitle;
+    private final String issueNumber;
+    private final LocalDate publicationDate;
+    private final String articleName;
+    private final String authorLastName;
+    private final String content;
+    private final Integer wordCount;
+    private final Integer sentenceCount;
+    private final Integer rating;
+    private final ReviewStatus status;
+    private final Integer pointsAwarded;
+    private final LocalDate submittedDate;
+    private final String rejectionReason;
+    private final Long flaggedDuplicateOf;
+
+    public ReviewResponse(Long id, Long userId, String username, Long subscriptionId, Long publicationId,
+                          String publicationTitle, String issueNumber, LocalDate publicationDate,
+                          String articleName, String authorLastName, String content, Integer wordCount,
+                          Integer sentenceCount, Integer rating, ReviewStatus status, Integer pointsAwarded,
+                          LocalDate submittedDate, String rejectionReason, Long flaggedDuplicateOf) {
+        this.id = id;
+        this.userId = userId;
+        this.username = username;
+        this.subscriptionId = subscriptionId;
+        this.publicationId = publicationId;
+        this.publicationTitle = publicationTitle;
+        this.issueNumber = issueNumber;
+        this.publicationDate = publicationDate;
+        this.articleName = articleName;
+        this.authorLastName = authorLastName;
+        this.content = content;
+        this.wordCount = wordCount;
+        this.sentenceCount = sentenceCount;
+        this.rating = rating;
+        this.status = status;
+        this.pointsAwarded = pointsAwarded;
+        this.submittedDate = submittedDate;
+        this.rejectionReason = rejectionReason;
+        this.flaggedDuplicateOf = flaggedDuplicateOf;
+    }
+
+    // Must be called inside the transaction that loaded the review (publication title may be lazy)
+    public static ReviewResponse from(Review review) {
+        return new ReviewResponse(review.getId(), review.getUser().getId(), review.getUser().getUsername(),
+                review.getSubscription().getId(), review.getPublication().getId(),
+                review.getPublication().getTitle(), review.getIssueNumber(), review.getPublicationDate(),
+                review.getArticleName(), review.getAuthorLastName(), review.getContent(), review.getWordCount(),
+                review.getSentenceCount(), review.getRating(), review.getStatus(), review.getPointsAwarded(),
+                review.getSubmittedDate(), review.getRejectionReason(), review.getFlaggedDuplicateOf());
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public Long getUserId() { return userId; }
+    public String getUsername() { return username; }
+    public Long getSubscriptionId() { return subscriptionId; }
+    public Long getPublicationId() { return publicationId; }
+    public String getPublicationTitle() { return publicationTitle; }
+    public String getIssueNumber() { return issueNumber; }
+    public LocalDate getPublicationDate() { return publicationDate; }
+    public String getArticleName() { return articleName; }
+    public String getAuthorLastName() { return authorLastName; }
+    public String getContent() { return content; }
+    public Integer getWordCount() { return wordCount; }
+    public Integer getSentenceCount() { return sentenceCount; }
+    public Integer getRating() { return rating; }
+    public ReviewStatus getStatus() { return status; }
+    public Integer getPointsAwarded() { return pointsAwarded; }
+    public LocalDate getSubmittedDate() { return submittedDate; }
+    public String getRejectionReason() { return rejectionReason; }
+    public Long getFlaggedDuplicateOf() { return flaggedDuplicateOf; }
+}
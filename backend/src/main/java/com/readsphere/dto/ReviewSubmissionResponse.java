@@ -0,0 +1,31 @@
+package com.readsphere.dto;
+
+import com.readsphere.moderation.SubmissionStatus;
+import com.readsphere.moderation.SubmissionTicket;
+
+// Status of an asynchronous review submission; reviewId is set once the review has been persisted
+public class ReviewSubmissionResponse {
+    private final String ticketId;
+    private final SubmissionStatus status;
+    private final Long reviewId;
+    private final String message;
+
+    public ReviewSubmissionResponse(String ticketId, SubmissionStatus status, Long reviewId, String message) {
+        this.ticketId = ticketId;
+        this.status = status;
+        this.reviewId = reviewId;
+        this.message = message;
+    }
+
+    public static ReviewSubmissionResponse from(SubmissionTicket ticket) {
+        // Read status first: finish() publishes it last, after reviewId and message
+        SubmissionStatus status = ticket.getStatus();
+        return new ReviewSubmissionResponse(ticket.getId(), status, ticket.getReviewId(), ticket.getMessage());
+    }
+
+    // Getters
+    public String getTicketId() { return ticketId; }
+    public SubmissionStatus getStatus() { return status; }
+    public Long getReviewId() { return reviewId; }
+    public String getMessage() { return message; }
+}
@@ -0,0 +1,20 @@
+package com.readsphere.dto;
+
+public class SubscriptionLifecycleResult {
+    private final int expired;
+    private final int renewed;
+    private final int chunks;
+    private final long millis;
+
+    public SubscriptionLifecycleResult(int expired, int renewed, int chunks, long millis) {
+        this.expired = expired;
+        this.renewed = renewed;
+        this.chunks = chunks;
+        this.millis = millis;
+    }
+
+    public int getExpired() { return expired; }
+    public int getRenewed() { return renewed; }
+    public int getChunks() { return chunks; }
+    public long getMillis() { return millis; }
+}
@@ -0,0 +1,92 @@
+package com.readsphere.dto;
+
+import com.readsphere.model.PublicationType;
+import com.readsphere.model.SubscriptionStatus;
+import com.readsphere.model.UserSubscription;
+
+import java.time.LocalDate;
+
+// Read model for subscription endpoints; carries only the publication fields the account page shows
+public class SubscriptionResponse {
+    private final Long id;
+    private final String subscriptionNumber;
+    private final String orderNumber;
+    private final Long publicationId;
+    private final String publicationTitle;
+    private final PublicationType publicationType;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final SubscriptionStatus status;
+    private final Double price;
+    private final Integer issuesPerYear;
+    private final Integer pointsAwarded;
+    private final Boolean paidWithPoints;
+    private final Double refundAmount;
+    private final LocalDate cancelledDate;
+    private final Boolean autoRenew;
+    private final Integer renewalCount;
+
+    public SubscriptionResponse(Long id, String subscriptionNumber, String orderNumber, Long publicationId,
+                                String publicationTitle, PublicationType publicationType, LocalDate startDate,
+                                LocalDate endDate, SubscriptionStatus status, Double price, Integer issuesPerYear,
+                                Integer pointsAwarded, Boolean paidWithPoints, Double refundAmount,
+                                LocalDate cancelledDate, Boolean autoRenew, Integer renewalCount) {
+        this.id = id;
+        this.subscriptionNumber = subscriptionNumber;
+        this.orderNumber = orderNumber;
+        this.publicationId = publicationId;
+        this.publicationTitle = publicationTitle;
+        this.publicationType = publicationType;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.status = status;
+        this.price = price;
+        this.issuesPerYear = issuesPerYear;
+        this.pointsAwarded = pointsAwarded;
+        this.paidWithPoints = paidWithPoints;
+        this.refundAmount = refundAmount;
+        this.cancelledDate = cancelledDate;
+        this.autoRenew = autoRenew;
+        this.renewalCount = renewalCount;
+    }
+
+    // Must be called inside the transaction that loaded the subscription (publication may be lazy)
+    public static SubscriptionResponse from(UserSubscription subscription) {
+        return new SubscriptionResponse(subscription.getId(), subscription.getSubscriptionNumber(),
+                subscription.getOrderNumber(), subscription.getPublication().getId(),
+                subscription.getPublication().getTitle(), subscription.getPublication().getType(),
+                subscription.getStartDate(), subscription.getEndDate(), subscription.getStatus(),
+                subscription.getPrice(), subscription.getIssuesPerYear(), subscription.getPointsAwarded(),
+                subscription.getPaidWithPoints(), subscription.getRefundAmount(), subscription.getCancelledDate(),
+                subscription.getAutoRenew(), subscription.getRenewalCount());
+    }
+
+    // For freshly created subscriptions whose publication is only a reference; avoids initializing the proxy
+    public static SubscriptionResponse from(UserSubscription subscription, PublicationResponse publication) {
+        return new SubscriptionResponse(subscription.getId(), subscription.getSubscriptionNumber(),
+                subscription.getOrderNumber(), publication.getId(), publication.getTitle(), publication.getType(),
+                subscription.getStartDate(), subscription.getEndDate(), subscription.getStatus(),
+                subscription.getPrice(), subscription.getIssuesPerYear(), subscription.getPointsAwarded(),
+                subscription.getPaidWithPoints(), subscription.getRefundAmount(), subscription.getCancelledDate(),
+                subscription.getAutoRenew(), subscription.getRenewalCount());
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getSubscriptionNumber() { return subscriptionNumber; }
+    public String getOrderNumber() { return orderNumber; }
+    public Long getPublicationId() { return publicationId; }
+    public String getPublicationTitle() { return publicationTitle; }
+    public PublicationType getPublicationType() { return publicationType; }
+    public LocalDate getStartDate() { return startDate; }
+    public LocalDate getEndDate() { return endDate; }
+    public SubscriptionStatus getStatus() { return status; }
+    public Double getPrice() { return price; }
+    public Integer getIssuesPerYear() { return issuesPerYear; }
+    public Integer getPointsAwarded() { return pointsAwarded; }
+    public Boolean getPaidWithPoints() { return paidWithPoints; }
+    public Double getRefundAmount() { return refundAmount; }
+    public LocalDate getCancelledDate() { return cancelledDate; }
+    public Boolean getAutoRenew() { return autoRenew; }
+    public Integer getRenewalCount() { return renewalCount; }
+}
@@ -0,0 +1,18 @@
+package com.readsphere.dto;
+
+public class SuggestionResponse {
+    private final Long id;
+    private final String title;
+    private final String category;
+
+    public SuggestionResponse(Long id, String title, String category) {
+        this.id = id;
+        this.title = title;
+        this.category = category;
+    }
+
+    // Getters
+    public Long getId() { return id; }
+    public String getTitle() { return title; }
+    public String getCategory() { return category; }
+}
@@ -1,5 +1,6 @@
 package com.readsphere.dto;
 
+import com.readsphere.model.User;
 import com.readsphere.model.UserRole;
 
 public class UserResponse {
@@ -17,6 +18,24 @@ public class UserResponse {
     private Integer points;
     private UserRole role;
 
+    public static UserResponse from(User user) {
+        UserResponse response = new UserResponse();
+        response.setId(user.getId());
+        response.setUsername(user.getUsername());
+        response.setEmail(user.getEmail());
+        response.setFirstName(user.getFirstName());
+        response.setLastName(user.getLastName());
+        response.setMiddleInitial(user.getMiddleInitial());
+        response.setAddress(user.getAddress());
+        response.setCardNumber(user.getCardNumber());
+        response.setExpiryDate(user.getExpiryDate());
+        response.setCvv(user.getCvv());
+        response.setNameOnCard(user.getNameOnCard());
+        response.setPoints(user.getPoints());
+        response.setRole(user.getRole());
+        return response;
+    }
+
     // Getters and Setters
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
@@ -0,0 +1,21 @@
+package com.readsphere.event;
+
+/**
+ * Published whenever a publication row is inserted, updated or deleted.
+ * A {@code null} id means the whole catalog changed (bulk statements that bypass the entity lifecycle).
+ */
+public class PublicationChangedEvent {
+    private final Long publicationId;
+
+    public PublicationChangedEvent(Long publicationId) {
+        this.publicationId = publicationId;
+    }
+
+    public static PublicationChangedEvent catalogWide() {
+        return new PublicationChangedEvent(null);
+    }
+
+    public Long getPublicationId() { return publicationId; }
+
+    public boolean isCatalogWide() { return publicationId == null; }
+}
@@ -0,0 +1,24 @@
+package com.readsphere.event;
+
+import com.readsphere.model.Publication;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+// Instantiated through Spring's Hibernate bean container, so injection works here
+@Component
+public class PublicationEntityListener {
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onPublicationChanged(Publication publication) {
+        eventPublisher.publishEvent(new PublicationChangedEvent(publication.getId()));
+    }
+}
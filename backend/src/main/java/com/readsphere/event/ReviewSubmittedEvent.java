@@ -0,0 +1,16 @@
+package com.readsphere.event;
+
+// Published when a review row is created; carries its MinHash signature so listeners need not recompute it
+public class ReviewSubmittedEvent {
+    private final Long reviewId;
+    private final int[] signature;
+
+    public ReviewSubmittedEvent(Long reviewId, int[] signature) {
+        this.reviewId = reviewId;
+        this.signature = signature;
+    }
+
+    public Long getReviewId() { return reviewId; }
+
+    public int[] getSignature() { return signature; }
+}
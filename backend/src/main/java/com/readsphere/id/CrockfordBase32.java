@@ -0,0 +1,66 @@
+package com.readsphere.id;
+
+/**
+ * Fixed-width Crockford base32 for non-negative longs: 13 characters, no padding, no ambiguous letters
+ * (I, L, O, U). Fixed width keeps string order identical to numeric order.
+ */
+public final class CrockfordBase32 {
+
+    public static final int LENGTH = 13;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    private CrockfordBase32() {
+    }
+
+    public static String encode(long value) {
+        return encode("", value);
+    }
+
+    // Writes prefix and digits into one buffer so a key costs a single String allocation
+    public static String encode(String prefix, long value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Value must not be negative: " + value);
+        }
+        int prefixLength = prefix.length();
+        char[] chars = new char[prefixLength + LENGTH];
+        prefix.getChars(0, prefixLength, chars, 0);
+        for (int i = chars.length - 1; i >= prefixLength; i--) {
+            chars[i] = ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+        return new String(chars);
+    }
+
+    public static long decode(CharSequence text) {
+        if (text.length() != LENGTH) {
+            throw new IllegalArgumentException("Expected " + LENGTH + " characters: " + text);
+        }
+        long value = 0;
+        for (int i = 0; i < LENGTH; i++) {
+            int digit = digit(text.charAt(i));
+            if (digit < 0 || (i == 0 && digit > 7)) {
+                throw new IllegalArgumentException("Invalid base32 id: " + text);
+            }
+            value = (value << 5) | digit;
+        }
+        return value;
+    }
+
+    // Case-insensitive, and accepts the Crockford aliases O -> 0 and I/L -> 1
+    private static int digit(char c) {
+        char upper = Character.toUpperCase(c);
+        switch (upper) {
+            case 'O': return 0;
+            case 'I':
+            case 'L': return 1;
+            default:
+                for (int i = 0; i < ALPHABET.length; i++) {
+                    if (ALPHABET[i] == upper) {
+                        return i;
+                    }
+                }
+                return -1;
+        }
+    }
+}
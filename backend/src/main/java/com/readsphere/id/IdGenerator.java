@@ -0,0 +1,15 @@
+package com.readsphere.id;
+
+/**
+ * Source of unique, time-ordered identifiers. Implementations must never return the same id twice within
+ * a deployment and must not need the database to guarantee it.
+ */
+public interface IdGenerator {
+
+    long nextId();
+
+    // Prefixed, fixed-width Crockford base32 form of the next id, e.g. "SUB-01HV4Q8Z3K2M0"; sorts like the id
+    default String nextKey(String prefix) {
+        return CrockfordBase32.encode(prefix, nextId());
+    }
+}
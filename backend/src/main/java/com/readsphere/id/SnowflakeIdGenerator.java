@@ -0,0 +1,89 @@
+package com.readsphere.id;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Snowflake-style 63-bit ids: 41 bits of milliseconds since 2024-01-01, 10 bits of node id and 12 bits of
+ * per-millisecond sequence. The last (timestamp, sequence) pair lives in a single AtomicLong advanced by CAS,
+ * so generation is lock-free and allocation-free. Ids are strictly increasing per node: if the clock steps
+ * back, or more than 4096 ids are drawn in one millisecond, the generator keeps counting on from the last
+ * timestamp instead of waiting.
+ */
+@Component
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(SnowflakeIdGenerator.class);
+
+    static final long EPOCH_MILLIS = 1704067200000L; // 2024-01-01T00:00:00Z
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // Must differ per running instance: two instances sharing a node id can draw the same id in the same ms
+    @Value("${ids.node-id:-1}")
+    private long configuredNodeId;
+
+    // Without a node id, startup fails unless this declares that only one instance ever runs
+    @Value("${ids.single-instance:false}")
+    private boolean singleInstance;
+
+    private final LongSupplier clock;
+    private final AtomicLong lastState = new AtomicLong();
+    private long nodeBits;
+
+    public SnowflakeIdGenerator() {
+        this(System::currentTimeMillis);
+    }
+
+    SnowflakeIdGenerator(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @PostConstruct
+    public void init() {
+        long nodeId;
+        if (configuredNodeId >= 0) {
+            if (configuredNodeId > MAX_NODE_ID) {
+                throw new IllegalStateException("ids.node-id must be between 0 and " + MAX_NODE_ID + ": "
+                        + configuredNodeId);
+            }
+            nodeId = configuredNodeId;
+            log.info("Id generator using node id {}", nodeId);
+        } else if (singleInstance) {
+            nodeId = 0;
+            log.warn("ids.node-id is not set, id generator using node id 0: only safe while a single instance runs");
+        } else {
+            throw new IllegalStateException("ids.node-id (IDS_NODE_ID) must be set to a value between 0 and "
+                    + MAX_NODE_ID + " unique to this instance, or ids.single-instance=true when only one runs");
+        }
+        nodeBits = nodeId << SEQUENCE_BITS;
+    }
+
+    @Override
+    public long nextId() {
+        long now = clock.getAsLong() - EPOCH_MILLIS;
+        long state;
+        long next;
+        do {
+            // state = timestamp << SEQUENCE_BITS | sequence, so "+ 1" rolls a full sequence into the next ms
+            state = lastState.get();
+            long candidate = now << SEQUENCE_BITS;
+            next = candidate > state ? candidate : state + 1;
+        } while (!lastState.compareAndSet(state, next));
+
+        long timestamp = next >>> SEQUENCE_BITS;
+        return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | (next & SEQUENCE_MASK);
+    }
+
+    public long getNodeId() {
+        return nodeBits >>> SEQUENCE_BITS;
+    }
+}
@@ -0,0 +1,20 @@
+package com.readsphere.jdbc;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum JDBC statements one request to this endpoint may execute, overriding sql.budget.max-statements.
+ * Checked by {@link SqlStatementFilter}; only enforced when sql.budget.enforce is on.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlBudget {
+    // Endpoints answered by one projection query; the second statement is the principal lookup that
+    // JwtAuthenticationFilter runs in database auth mode
+    int SINGLE_QUERY = 2;
+
+    int value();
+}
@@ -0,0 +1,16 @@
+package com.readsphere.jdbc;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks an endpoint that runs one statement per chunk of its input (bulk imports): its statement count grows
+ * with the input and the repeats are intended, so {@link SqlStatementFilter} applies neither the statement
+ * budget nor N+1 detection to it.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface SqlChunked {
+}
@@ -0,0 +1,56 @@
+package com.readsphere.jdbc;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// JDBC statements executed on behalf of one HTTP request; only ever touched by the request's own thread
+public class SqlRequestStats {
+
+    private int statements;
+    private long nanos;
+    private final Map<String, Integer> executionsBySql = new HashMap<>();
+
+    void record(String sql, long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+        if (sql != null) {
+            executionsBySql.merge(sql, 1, Integer::sum);
+        }
+    }
+
+    public int getStatements() { return statements; }
+
+    public double getMillis() { return nanos / 1_000_000.0; }
+
+    /**
+     * Statements executed at least {@code threshold} times with identical SQL (so differing only in their
+     * bind values), most frequent first. That is the signature of an N+1: one query per row of an earlier
+     * result, typically a lazy association loaded in a loop.
+     */
+    public List<Repeated> repeatedStatements(int threshold) {
+        List<Repeated> repeated = new ArrayList<>();
+        executionsBySql.forEach((sql, count) -> {
+            if (count >= threshold) {
+                repeated.add(new Repeated(sql, count));
+            }
+        });
+        repeated.sort(Comparator.comparingInt(Repeated::getCount).reversed());
+        return repeated;
+    }
+
+    public static class Repeated {
+        private final String sql;
+        private final int count;
+
+        Repeated(String sql, int count) {
+            this.sql = sql;
+            this.count = count;
+        }
+
+        public String getSql() { return sql; }
+        public int getCount() { return count; }
+    }
+}
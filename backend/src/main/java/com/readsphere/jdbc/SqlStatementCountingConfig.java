@@ -0,0 +1,26 @@
+package com.readsphere.jdbc;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+@Configuration(proxyBeanMethods = false)
+public class SqlStatementCountingConfig {
+
+    // Static so the post-processor exists before the DataSource (and everything built on it) is created
+    @Bean
+    public static BeanPostProcessor statementCountingDataSourcePostProcessor(Environment environment) {
+        boolean enabled = environment.getProperty("sql.stats.enabled", Boolean.class, false);
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                return enabled && bean instanceof DataSource dataSource
+                        ? StatementCountingDataSource.wrap(dataSource)
+                        : bean;
+            }
+        };
+    }
+}
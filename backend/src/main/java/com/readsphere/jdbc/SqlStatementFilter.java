@@ -0,0 +1,125 @@
+package com.readsphere.jdbc;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.util.List;
+
+/**
+ * Counts the JDBC statements and database time of each request, reports them as X-SQL-Count / X-SQL-Time-Ms
+ * response headers and in the log, and flags N+1 patterns. With sql.budget.enforce on (for test and load-test
+ * environments) a request over its statement budget, or with an N+1, is answered with a 500 instead.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementFilter.class);
+
+    @Value("${sql.stats.enabled:false}")
+    private boolean enabled;
+
+    // Headers need the body buffered until the count is known
+    @Value("${sql.stats.response-headers:false}")
+    private boolean responseHeaders;
+
+    // Identical SQL run this many times in one request counts as an N+1
+    @Value("${sql.stats.n-plus-one-threshold:5}")
+    private int nPlusOneThreshold;
+
+    @Value("${sql.budget.max-statements:25}")
+    private int defaultBudget;
+
+    @Value("${sql.budget.enforce:false}")
+    private boolean enforce;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        boolean buffer = responseHeaders || enforce;
+        ContentCachingResponseWrapper wrapper = buffer ? new ContentCachingResponseWrapper(response) : null;
+        SqlRequestStats stats = SqlRequestContext.begin();
+        try {
+            chain.doFilter(request, buffer ? wrapper : response);
+        } finally {
+            SqlRequestContext.end();
+        }
+
+        String endpoint = request.getMethod() + " " + endpointPattern(request);
+        SqlBudget annotation = handlerAnnotation(request, SqlBudget.class);
+        boolean chunked = handlerAnnotation(request, SqlChunked.class) != null;
+        int budget = chunked ? Integer.MAX_VALUE : annotation != null ? annotation.value() : defaultBudget;
+        List<SqlRequestStats.Repeated> repeated = chunked
+                ? List.of() : stats.repeatedStatements(nPlusOneThreshold);
+        if (!repeated.isEmpty()) {
+            log.warn("Possible N+1 in {}: {} statements, most repeated ({}x): {}", endpoint,
+                    stats.getStatements(), repeated.get(0).getCount(), repeated.get(0).getSql());
+        }
+        if (stats.getStatements() > budget) {
+            log.warn("{} executed {} statements, budget is {}", endpoint, stats.getStatements(), budget);
+        }
+        log.debug("{}: {} statements, {} ms in the database", endpoint, stats.getStatements(),
+                String.format("%.2f", stats.getMillis()));
+
+        if (!buffer) {
+            return;
+        }
+        if (enforce && (stats.getStatements() > budget || !repeated.isEmpty())) {
+            wrapper.resetBuffer();
+            wrapper.setStatus(HttpStatus.INTERNAL_SERVER_ERROR.value());
+            wrapper.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            wrapper.getWriter().write(endpoint + " exceeded its SQL budget: " + stats.getStatements()
+                    + " statements (budget " + budget + ")"
+                    + (repeated.isEmpty() ? "" : ", N+1 on: " + repeated.get(0).getSql()));
+            wrapper.getWriter().flush();
+        }
+        if (!response.isCommitted()) {
+            response.setHeader("X-SQL-Count", String.valueOf(stats.getStatements()));
+            response.setHeader("X-SQL-Time-Ms", String.format("%.2f", stats.getMillis()));
+            if (!repeated.isEmpty()) {
+                response.setHeader("X-SQL-N-Plus-One", String.valueOf(repeated.get(0).getCount()));
+            }
+        }
+        wrapper.copyBodyToResponse();
+    }
+
+    // On the handler method, else on its controller class
+    private static <A extends Annotation> A handlerAnnotation(HttpServletRequest request, Class<A> type) {
+        if (request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE) instanceof HandlerMethod handler) {
+            A annotation = handler.getMethodAnnotation(type);
+            if (annotation == null) {
+                annotation = AnnotatedElementUtils.findMergedAnnotation(handler.getBeanType(), type);
+            }
+            return annotation;
+        }
+        return null;
+    }
+
+    // The mapped pattern (/api/reviews/{id}/approve) rather than the raw URI, so log lines group per endpoint
+    private static String endpointPattern(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : request.getRequestURI();
+    }
+}
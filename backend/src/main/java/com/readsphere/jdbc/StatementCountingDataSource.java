@@ -0,0 +1,86 @@
+package com.readsphere.jdbc;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+
+/**
+ * Wraps a DataSource so every statement execution is timed and recorded in the current request's
+ * {@link SqlRequestStats}. Outside a request (scheduled jobs, moderation workers) it only forwards.
+ * Everything else, including unwrap() to the pool, goes straight to the underlying objects.
+ */
+public final class StatementCountingDataSource {
+
+    private StatementCountingDataSource() {
+    }
+
+    public static DataSource wrap(DataSource target) {
+        // Keep Closeable so the container still shuts the pool down through the wrapper
+        Class<?>[] interfaces = target instanceof Closeable
+                ? new Class<?>[] {DataSource.class, Closeable.class}
+                : new Class<?>[] {DataSource.class};
+        return (DataSource) Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(), interfaces,
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    return result instanceof Connection connection ? wrapConnection(connection) : result;
+                });
+    }
+
+    private static Connection wrapConnection(Connection target) {
+        return proxy(Connection.class, (proxy, method, args) -> {
+            Object result = invoke(target, method, args);
+            if (result instanceof Statement statement) {
+                // prepareStatement/prepareCall carry their SQL up front; plain statements pass it to execute
+                String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+                return wrapStatement(statement, method.getReturnType(), sql);
+            }
+            return result;
+        });
+    }
+
+    private static Object wrapStatement(Statement target, Class<?> type, String preparedSql) {
+        Class<?> iface = CallableStatement.class.isAssignableFrom(type) ? CallableStatement.class
+                : PreparedStatement.class.isAssignableFrom(type) ? PreparedStatement.class
+                : Statement.class;
+        return proxy(iface, (proxy, method, args) -> {
+            SqlRequestStats stats = SqlRequestContext.current();
+            if (stats == null || !method.getName().startsWith("execute")) {
+                return invoke(target, method, args);
+            }
+            String sql = preparedSql != null ? preparedSql
+                    : args != null && args.length > 0 && args[0] instanceof String s ? s : null;
+            long start = System.nanoTime();
+            try {
+                return invoke(target, method, args);
+            } finally {
+                stats.record(sql, System.nanoTime() - start);
+            }
+        });
+    }
+
+    // Proxies compare by identity, so a connection still equals itself when Spring checks its holder
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(Class<T> iface, InvocationHandler handler) {
+        return (T) Proxy.newProxyInstance(StatementCountingDataSource.class.getClassLoader(),
+                new Class<?>[] {iface}, (proxy, method, args) -> switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> handler.invoke(proxy, method, args);
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
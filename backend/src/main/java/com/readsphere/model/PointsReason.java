@@ -0,0 +1,9 @@
+package com.readsphere.model;
+
+public enum PointsReason {
+    PURCHASE_AWARD,
+    PURCHASE_REDEMPTION,
+    REVIEW_APPROVED,
+    SUBSCRIPTION_CANCELLED,
+    MANUAL_ADJUSTMENT
+}
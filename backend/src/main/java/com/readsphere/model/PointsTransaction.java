@@ -0,0 +1,58 @@
+package com.readsphere.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Append-only ledger row; written by PointsService in the same statement that moves the balance
+@Entity
+@Table(name = "points_transactions")
+public class PointsTransaction {
+    @Id
+    // Stays IDENTITY: rows are only inserted by PointsService SQL, never by Hibernate
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @Column(nullable = false)
+    private Integer delta;
+
+    @Column(nullable = false)
+    private Integer balanceAfter;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PointsReason reason;
+
+    private String reference;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // Constructors
+    public PointsTransaction() {}
+
+    // Getters and Setters
+    public Long getId() { return id; }
+    public void setId(Long id) { this.id = id; }
+
+    public User getUser() { return user; }
+    public void setUser(User user) { this.user = user; }
+
+    public Integer getDelta() { return delta; }
+    public void setDelta(Integer delta) { this.delta = delta; }
+
+    public Integer getBalanceAfter() { return balanceAfter; }
+    public void setBalanceAfter(Integer balanceAfter) { this.balanceAfter = balanceAfter; }
+
+    public PointsReason getReason() { return reason; }
+    public void setReason(PointsReason reason) { this.reason = reason; }
+
+    public String getReference() { return reference; }
+    public void setReference(String reference) { this.reference = reference; }
+
+    public LocalDateTime getCreatedAt() { return createdAt; }
+    public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
+}
@@ -1,14 +1,22 @@
 package com.readsphere.model;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.readsphere.event.PublicationEntityListener;
 import jakarta.persistence.*;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "publications")
+@Cacheable
+@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "publications")
+@EntityListeners(PublicationEntityListener.class)
 public class Publication {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // One nextval per 50 inserts (V4 sets the increment), and unlike IDENTITY it lets Hibernate batch inserts
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "publications_id_seq")
+    @SequenceGenerator(name = "publications_id_seq", sequenceName = "publications_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -33,15 +41,37 @@ public class Publication {
 
     private String category;
 
+    // Aggregates over the base figures below plus approved reviews, maintained by PublicationRatingService
+    // statements; entity saves never write them so a stale copy cannot overwrite a concurrent increment
+    @Column(updatable = false)
     private Double rating = 0.0;
 
+    @Column(updatable = false)
     private Integer reviewCount = 0;
 
+    // Approved reviews that carry a rating; `rating` is their mean
+    @Column(updatable = false)
+    private Integer ratingCount = 0;
+
+    // Ratings and reviews the publication came with (seeded), which no review row backs. Reconciliation
+    // recomputes the aggregates as these plus the approved reviews, so it never discards them.
+    @Column(nullable = false, updatable = false)
+    private Double baseRating = 0.0;
+
+    @Column(nullable = false, updatable = false)
+    private Integer baseRatingCount = 0;
+
+    @Column(nullable = false, updatable = false)
+    private Integer baseReviewCount = 0;
+
     private Boolean featured = false;
 
+    // Endpoints serialize PublicationResponse; never walk these lazy collections through Jackson
+    @JsonIgnore
     @OneToMany(mappedBy = "publication", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<UserSubscription> subscriptions = new ArrayList<>();
 
+    @JsonIgnore
     @OneToMany(mappedBy = "publication", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
     private List<Review> reviews = new ArrayList<>();
 
@@ -82,6 +112,18 @@ public class Publication {
     public Integer getReviewCount() { return reviewCount; }
     public void setReviewCount(Integer reviewCount) { this.reviewCount = reviewCount; }
 
+    public Integer getRatingCount() { return ratingCount; }
+    public void setRatingCount(Integer ratingCount) { this.ratingCount = ratingCount; }
+
+    public Double getBaseRating() { return baseRating; }
+    public void setBaseRating(Double baseRating) { this.baseRating = baseRating; }
+
+    public Integer getBaseRatingCount() { return baseRatingCount; }
+    public void setBaseRatingCount(Integer baseRatingCount) { this.baseRatingCount = baseRatingCount; }
+
+    public Integer getBaseReviewCount() { return baseReviewCount; }
+    public void setBaseReviewCount(Integer baseReviewCount) { this.baseReviewCount = baseReviewCount; }
+
     public Boolean getFeatured() { return featured; }
     public void setFeatured(Boolean featured) { this.featured = featured; }
 
@@ -7,7 +7,8 @@ import java.time.LocalDate;
 @Table(name = "reviews")
 public class Review {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reviews_id_seq")
+    @SequenceGenerator(name = "reviews_id_seq", sequenceName = "reviews_id_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -43,6 +44,9 @@ public class Review {
     @Column(nullable = false)
     private Integer sentenceCount;
 
+    // 1-5 stars; optional, reviews submitted before ratings existed have none
+    private Integer rating;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
     private ReviewStatus status = ReviewStatus.PENDING;
@@ -55,6 +59,9 @@ public class Review {
     @Column(length = 1000)
     private String rejectionReason;
 
+    // Earlier review this one closely resembles (MinHash estimate), for moderators to compare
+    private Long flaggedDuplicateOf;
+
     // Constructors
     public Review() {}
 
@@ -92,6 +99,9 @@ public class Review {
     public Integer getSentenceCount() { return sentenceCount; }
     public void setSentenceCount(Integer sentenceCount) { this.sentenceCount = sentenceCount; }
 
+    public Integer getRating() { return rating; }
+    public void setRating(Integer rating) { this.rating = rating; }
+
     public ReviewStatus getStatus() { return status; }
     public void setStatus(ReviewStatus status) { this.status = status; }
 
@@ -103,4 +113,7 @@ public class Review {
 
     public String getRejectionReason() { return rejectionReason; }
     public void setRejectionReason(String rejectionReason) { this.rejectionReason = rejectionReason; }
+
+    public Long getFlaggedDuplicateOf() { return flaggedDuplicateOf; }
+    public void setFlaggedDuplicateOf(Long flaggedDuplicateOf) { this.flaggedDuplicateOf = flaggedDuplicateOf; }
 }
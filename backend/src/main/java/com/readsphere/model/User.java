@@ -1,14 +1,18 @@
 package com.readsphere.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "users")
+@Cacheable
+@org.hibernate.annotations.Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "users_id_seq")
+    @SequenceGenerator(name = "users_id_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(unique = true, nullable = false)
@@ -36,6 +40,8 @@ public class User {
     private String cvv;
     private String nameOnCard;
 
+    // Balance changes go through PointsService statements only, never through an entity save
+    @Column(updatable = false)
     private Integer points = 0;
 
     @Enumerated(EnumType.STRING)
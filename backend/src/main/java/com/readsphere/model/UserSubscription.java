@@ -7,7 +7,9 @@ import java.time.LocalDate;
 @Table(name = "user_subscriptions")
 public class UserSubscription {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_subscriptions_id_seq")
+    @SequenceGenerator(name = "user_subscriptions_id_seq", sequenceName = "user_subscriptions_id_seq",
+            allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true)
@@ -21,10 +23,14 @@ public class UserSubscription {
     @JoinColumn(name = "publication_id", nullable = false)
     private Publication publication;
 
+    // startDate, endDate, price and issuesPerYear describe the current paid term: the purchase, or the latest
+    // renewal billed by SubscriptionLifecycleJob
     @Column(nullable = false)
     private LocalDate startDate;
 
-    @Column(nullable = false)
+    // Only moved forward by SubscriptionLifecycleJob renewals; entity saves never write it back, so a stale
+    // copy cannot undo a renewal
+    @Column(nullable = false, updatable = false)
     private LocalDate endDate;
 
     @Enumerated(EnumType.STRING)
@@ -48,6 +54,14 @@ public class UserSubscription {
 
     private LocalDate cancelledDate;
 
+    // Changed through SubscriptionService.setAutoRenew's conditional update only
+    @Column(nullable = false, updatable = false)
+    private Boolean autoRenew = false;
+
+    // Terms added by automatic renewal; maintained by SubscriptionLifecycleJob
+    @Column(nullable = false, updatable = false)
+    private Integer renewalCount = 0;
+
     // Constructors
     public UserSubscription() {}
 
@@ -93,4 +107,10 @@ public class UserSubscription {
 
     public LocalDate getCancelledDate() { return cancelledDate; }
     public void setCancelledDate(LocalDate cancelledDate) { this.cancelledDate = cancelledDate; }
+
+    public Boolean getAutoRenew() { return autoRenew; }
+    public void setAutoRenew(Boolean autoRenew) { this.autoRenew = autoRenew; }
+
+    public Integer getRenewalCount() { return renewalCount; }
+    public void setRenewalCount(Integer renewalCount) { this.renewalCount = renewalCount; }
 }
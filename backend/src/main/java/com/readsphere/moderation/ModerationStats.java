@@ -0,0 +1,63 @@
+package com.readsphere.moderation;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Counters for the moderation pipeline; queue depth and active workers are read live from the executor
+public class ModerationStats {
+    private final LongAdder accepted = new LongAdder();
+    private final LongAdder rejectedFull = new LongAdder();
+    private final LongAdder submitted = new LongAdder();
+    private final LongAdder autoRejected = new LongAdder();
+    private final LongAdder invalid = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAdder processingNanos = new LongAdder();
+
+    private volatile int queueDepth;
+    private volatile int queueCapacity;
+    private volatile int activeWorkers;
+
+    void recordAccepted() { accepted.increment(); }
+    void recordQueueFull() { rejectedFull.increment(); }
+
+    void recordOutcome(SubmissionStatus status, long waitNanos, long workNanos) {
+        switch (status) {
+            case SUBMITTED -> submitted.increment();
+            case AUTO_REJECTED -> autoRejected.increment();
+            case INVALID -> invalid.increment();
+            default -> failed.increment();
+        }
+        queueWaitNanos.add(waitNanos);
+        processingNanos.add(workNanos);
+    }
+
+    void updateQueue(int depth, int capacity, int active) {
+        this.queueDepth = depth;
+        this.queueCapacity = capacity;
+        this.activeWorkers = active;
+    }
+
+    public long getAccepted() { return accepted.sum(); }
+    public long getRejectedQueueFull() { return rejectedFull.sum(); }
+    public long getSubmitted() { return submitted.sum(); }
+    public long getAutoRejected() { return autoRejected.sum(); }
+    public long getInvalid() { return invalid.sum(); }
+    public long getFailed() { return failed.sum(); }
+    public int getQueueDepth() { return queueDepth; }
+    public int getQueueCapacity() { return queueCapacity; }
+    public int getActiveWorkers() { return activeWorkers; }
+
+    public double getAverageQueueWaitMillis() {
+        long completed = completed();
+        return completed == 0 ? 0.0 : queueWaitNanos.sum() / 1_000_000.0 / completed;
+    }
+
+    public double getAverageProcessingMillis() {
+        long completed = completed();
+        return completed == 0 ? 0.0 : processingNanos.sum() / 1_000_000.0 / completed;
+    }
+
+    private long completed() {
+        return submitted.sum() + autoRejected.sum() + invalid.sum() + failed.sum();
+    }
+}
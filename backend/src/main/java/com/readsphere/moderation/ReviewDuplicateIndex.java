@@ -0,0 +1,70 @@
+package com.readsphere.moderation;
+
+import com.readsphere.event.ReviewSubmittedEvent;
+import com.readsphere.text.LshIndex;
+import com.readsphere.text.MinHash;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.sql.PreparedStatement;
+import java.util.Optional;
+
+/**
+ * In-memory near-duplicate index over all review texts. Built once at startup by streaming the reviews
+ * table, then kept current from {@link ReviewSubmittedEvent}s after their transaction commits.
+ */
+@Component
+public class ReviewDuplicateIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewDuplicateIndex.class);
+    private static final int FETCH_SIZE = 500;
+
+    @Value("${reviews.duplicates.min-similarity:0.6}")
+    private double minSimilarity;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final LshIndex index = new LshIndex();
+
+    // Read-only transaction so the PostgreSQL driver honours the fetch size and streams rows
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void load() {
+        long start = System.nanoTime();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement("SELECT id, content FROM reviews");
+            statement.setFetchSize(FETCH_SIZE);
+            return statement;
+        }, rs -> {
+            index.put(rs.getLong(1), MinHash.signature(rs.getString(2)));
+        });
+        log.info("Indexed {} reviews for duplicate detection in {} ms",
+                index.size(), (System.nanoTime() - start) / 1_000_000);
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onReviewSubmitted(ReviewSubmittedEvent event) {
+        index.put(event.getReviewId(), event.getSignature());
+    }
+
+    public int[] signature(CharSequence content) {
+        return MinHash.signature(content);
+    }
+
+    public Optional<LshIndex.Match> findNearDuplicate(int[] signature) {
+        return index.findMostSimilar(signature, minSimilarity);
+    }
+
+    public int size() {
+        return index.size();
+    }
+}
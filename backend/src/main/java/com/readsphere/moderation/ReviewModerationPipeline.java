@@ -0,0 +1,143 @@
+package com.readsphere.moderation;
+
+import com.readsphere.config.WorkerThreads;
+import com.readsphere.dto.ReviewRequest;
+import com.readsphere.dto.ReviewResponse;
+import com.readsphere.id.IdGenerator;
+import com.readsphere.service.ReviewService;
+import com.readsphere.text.TextMetrics;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Accepts review submissions without doing any of the work on the request thread. Each submission gets a
+ * ticket and is queued on a bounded executor whose workers run analysis, automatic screening and
+ * persistence. When the queue is full the submission is refused with 503 instead of piling up, so a
+ * traffic spike costs callers a retry rather than every request's latency.
+ */
+@Component
+public class ReviewModerationPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(ReviewModerationPipeline.class);
+
+    @Value("${reviews.moderation.workers:2}")
+    private int workers;
+
+    @Value("${reviews.moderation.queue-capacity:500}")
+    private int queueCapacity;
+
+    // How long finished tickets stay pollable
+    @Value("${reviews.moderation.ticket-ttl-ms:3600000}")
+    private long ticketTtlMillis;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ReviewScreener screener;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    @Autowired
+    private WorkerThreads workerThreads;
+
+    private final Map<String, SubmissionTicket> tickets = new ConcurrentHashMap<>();
+    private final ModerationStats stats = new ModerationStats();
+    private ThreadPoolExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), workerThreads.newThreadFactory("review-moderation-"),
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    // Lets queued submissions finish; anything still queued after the grace period is dropped with a log line
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdown();
+        if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+            log.warn("Dropping {} queued review submissions on shutdown", executor.shutdownNow().size());
+        }
+    }
+
+    public SubmissionTicket submit(String username, ReviewRequest request) {
+        SubmissionTicket ticket = new SubmissionTicket(idGenerator.nextKey("RVS-"), username,
+                System.currentTimeMillis());
+        long enqueuedAt = System.nanoTime();
+        tickets.put(ticket.getId(), ticket);
+        try {
+            executor.execute(() -> process(ticket, request, enqueuedAt));
+        } catch (RejectedExecutionException e) {
+            tickets.remove(ticket.getId());
+            stats.recordQueueFull();
+            throw new ResponseStatusException(HttpStatus.SERVICE_UNAVAILABLE,
+                    "Review moderation queue is full, please retry shortly");
+        }
+        stats.recordAccepted();
+        return ticket;
+    }
+
+    // Tickets are only visible to the user who submitted them
+    public Optional<SubmissionTicket> getTicket(String ticketId, String username) {
+        return Optional.ofNullable(tickets.get(ticketId))
+                .filter(ticket -> ticket.getUsername().equals(username));
+    }
+
+    public ModerationStats getStats() {
+        stats.updateQueue(executor.getQueue().size(), queueCapacity, executor.getActiveCount());
+        return stats;
+    }
+
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeFinishedTickets() {
+        long cutoff = System.currentTimeMillis() - ticketTtlMillis;
+        tickets.values().removeIf(ticket ->
+                ticket.getStatus().isFinished() && ticket.getFinishedAtMillis() < cutoff);
+    }
+
+    private void process(SubmissionTicket ticket, ReviewRequest request, long enqueuedAt) {
+        long startedAt = System.nanoTime();
+        SubmissionStatus outcome;
+        try {
+            ticket.advance(SubmissionStatus.ANALYZING);
+            TextMetrics metrics = TextMetrics.analyze(request.getContent());
+            reviewService.validateReview(request, metrics);
+
+            ticket.advance(SubmissionStatus.SCREENING);
+            String rejection = screener.screen(ticket.getUsername(), request, metrics);
+
+            ticket.advance(SubmissionStatus.PERSISTING);
+            ReviewResponse review = reviewService.createReview(ticket.getUsername(), request, metrics, rejection);
+
+            outcome = rejection == null ? SubmissionStatus.SUBMITTED : SubmissionStatus.AUTO_REJECTED;
+            ticket.finish(outcome, review.getId(), rejection, System.currentTimeMillis());
+        } catch (DataAccessException e) {
+            log.error("Review submission {} failed", ticket.getId(), e);
+            outcome = SubmissionStatus.FAILED;
+            ticket.finish(outcome, null, "Submission could not be saved, please retry", System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            outcome = SubmissionStatus.INVALID;
+            ticket.finish(outcome, null, e.getMessage(), System.currentTimeMillis());
+        }
+        stats.recordOutcome(outcome, startedAt - enqueuedAt, System.nanoTime() - startedAt);
+    }
+}
@@ -0,0 +1,103 @@
+package com.readsphere.moderation;
+
+import com.readsphere.dto.ReviewRequest;
+import com.readsphere.repository.ReviewRepository;
+import com.readsphere.text.TextMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Automatic screening for reviews that already passed validation. Returns a rejection reason for exact
+ * resubmissions and for text that trips the spam heuristics, or {@code null} when a moderator should decide.
+ */
+@Component
+public class ReviewScreener {
+
+    static final int MAX_LINKS = 2;
+    static final int MAX_REPEATED_CHARACTERS = 10;
+    static final double MAX_UPPERCASE_RATIO = 0.7;
+    static final double MIN_DISTINCT_WORD_RATIO = 0.3;
+    static final int MAX_WORDS = 1500;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    public String screen(String username, ReviewRequest request, TextMetrics metrics) {
+        String content = request.getContent();
+        if (metrics.getWordCount() > MAX_WORDS) {
+            return "Auto-screened: review is longer than " + MAX_WORDS + " words";
+        }
+        String spam = spamReason(content, metrics);
+        if (spam != null) {
+            return "Auto-screened: " + spam;
+        }
+        if (reviewRepository.existsByUserUsernameAndContent(username, content)) {
+            return "Auto-screened: duplicate of an earlier review";
+        }
+        return null;
+    }
+
+    static String spamReason(String content, TextMetrics metrics) {
+        String lower = content.toLowerCase(Locale.ROOT);
+        if (countOccurrences(lower, "http://") + countOccurrences(lower, "https://") + countOccurrences(lower, "www.")
+                > MAX_LINKS) {
+            return "too many links";
+        }
+        if (longestRun(content) >= MAX_REPEATED_CHARACTERS) {
+            return "repeated characters";
+        }
+        if (metrics.getLetterCount() >= 20
+                && uppercaseLetters(content) > MAX_UPPERCASE_RATIO * metrics.getLetterCount()) {
+            return "mostly upper-case text";
+        }
+        if (distinctWords(lower) < MIN_DISTINCT_WORD_RATIO * metrics.getWordCount()) {
+            return "repetitive text";
+        }
+        return null;
+    }
+
+    private static int countOccurrences(String text, String needle) {
+        int count = 0;
+        for (int index = text.indexOf(needle); index >= 0; index = text.indexOf(needle, index + needle.length())) {
+            count++;
+        }
+        return count;
+    }
+
+    private static int longestRun(CharSequence text) {
+        int longest = 0;
+        int run = 0;
+        char previous = 0;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            run = !Character.isWhitespace(c) && c == previous ? run + 1 : 1;
+            previous = c;
+            longest = Math.max(longest, run);
+        }
+        return longest;
+    }
+
+    private static int uppercaseLetters(CharSequence text) {
+        int count = 0;
+        for (int i = 0; i < text.length(); i++) {
+            if (Character.isUpperCase(text.charAt(i))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static int distinctWords(String lower) {
+        Set<String> words = new HashSet<>();
+        for (String word : lower.split("\\s+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words.size();
+    }
+}
@@ -0,0 +1,20 @@
+package com.readsphere.moderation;
+
+public enum SubmissionStatus {
+    QUEUED,
+    ANALYZING,
+    SCREENING,
+    PERSISTING,
+    // Persisted as PENDING, waiting for a moderator
+    SUBMITTED,
+    // Persisted as REJECTED by automatic screening
+    AUTO_REJECTED,
+    // Failed validation; nothing was persisted
+    INVALID,
+    // Unexpected error (e.g. database unavailable); nothing was persisted
+    FAILED;
+
+    public boolean isFinished() {
+        return this == SUBMITTED || this == AUTO_REJECTED || this == INVALID || this == FAILED;
+    }
+}
@@ -0,0 +1,38 @@
+package com.readsphere.moderation;
+
+// Progress of one queued review submission; written by a single worker, read by status polls
+public class SubmissionTicket {
+    private final String id;
+    private final String username;
+    private final long createdAtMillis;
+    private volatile SubmissionStatus status = SubmissionStatus.QUEUED;
+    private volatile Long reviewId;
+    private volatile String message;
+    private volatile long finishedAtMillis;
+
+    public SubmissionTicket(String id, String username, long createdAtMillis) {
+        this.id = id;
+        this.username = username;
+        this.createdAtMillis = createdAtMillis;
+    }
+
+    void advance(SubmissionStatus next) {
+        this.status = next;
+    }
+
+    void finish(SubmissionStatus result, Long reviewId, String message, long now) {
+        this.reviewId = reviewId;
+        this.message = message;
+        this.finishedAtMillis = now;
+        // Status last, so a poll that sees a finished status also sees its review id and message
+        this.status = result;
+    }
+
+    public String getId() { return id; }
+    public String getUsername() { return username; }
+    public long getCreatedAtMillis() { return createdAtMillis; }
+    public SubmissionStatus getStatus() { return status; }
+    public Long getReviewId() { return reviewId; }
+    public String getMessage() { return message; }
+    public long getFinishedAtMillis() { return finishedAtMillis; }
+}
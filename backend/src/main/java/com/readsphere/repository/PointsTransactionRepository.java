@@ -0,0 +1,19 @@
+package com.readsphere.repository;
+
+import com.readsphere.dto.PointsTransactionResponse;
+import com.readsphere.model.PointsTransaction;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface PointsTransactionRepository extends JpaRepository<PointsTransaction, Long> {
+    @Query("SELECT new com.readsphere.dto.PointsTransactionResponse("
+            + "t.id, t.delta, t.balanceAfter, t.reason, t.reference, t.createdAt) "
+            + "FROM PointsTransaction t JOIN t.user u WHERE u.username = :username ORDER BY t.id DESC")
+    List<PointsTransactionResponse> findLatestByUsername(@Param("username") String username, Limit limit);
+}
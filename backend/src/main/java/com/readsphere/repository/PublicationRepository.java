@@ -1,16 +1,101 @@
 package com.readsphere.repository;
 
+import com.readsphere.dto.PublicationResponse;
 import com.readsphere.model.Publication;
 import com.readsphere.model.PublicationType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface PublicationRepository extends JpaRepository<Publication, Long> {
+    String RESPONSE_PROJECTION = "SELECT new com.readsphere.dto.PublicationResponse("
+            + "p.id, p.title, p.type, p.description, p.price, p.image, p.issuesPerYear, "
+            + "p.city, p.category, p.rating, p.reviewCount, p.featured) FROM Publication p ";
+
+    // Query cache holds the ids, the entities then come from the publications region
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Publication> findByType(PublicationType type);
+
     List<Publication> findByCategory(String category);
+
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Publication> findByFeaturedTrue();
     List<Publication> findByTitleContainingIgnoreCase(String title);
+
+    @Query(RESPONSE_PROJECTION + "ORDER BY p.id")
+    List<PublicationResponse> findAllResponses();
+
+    @Query(RESPONSE_PROJECTION + "WHERE p.id = :id")
+    Optional<PublicationResponse> findResponseById(@Param("id") Long id);
+
+    // Keyset pagination: callers pass the last id they saw
+    @Query(RESPONSE_PROJECTION + "WHERE p.id > :afterId ORDER BY p.id")
+    List<PublicationResponse> findResponsesAfter(@Param("afterId") Long afterId, Limit limit);
+
+    // Rating aggregates: one single-row statement per review transition, no reviews scan
+    @Modifying
+    @Query("UPDATE Publication p SET "
+            + "p.rating = (COALESCE(p.rating, 0) * COALESCE(p.ratingCount, 0) + :rating) "
+            + "  / (COALESCE(p.ratingCount, 0) + 1), "
+            + "p.ratingCount = COALESCE(p.ratingCount, 0) + 1, "
+            + "p.reviewCount = COALESCE(p.reviewCount, 0) + 1 "
+            + "WHERE p.id = :id")
+    int addApprovedRating(@Param("id") Long id, @Param("rating") double rating);
+
+    @Modifying
+    @Query("UPDATE Publication p SET "
+            + "p.rating = CASE WHEN COALESCE(p.ratingCount, 0) <= 1 THEN 0.0 "
+            + "  ELSE (p.rating * p.ratingCount - :rating) / (p.ratingCount - 1) END, "
+            + "p.ratingCount = CASE WHEN COALESCE(p.ratingCount, 0) <= 1 THEN 0 ELSE p.ratingCount - 1 END, "
+            + "p.reviewCount = CASE WHEN COALESCE(p.reviewCount, 0) <= 1 THEN 0 ELSE p.reviewCount - 1 END "
+            + "WHERE p.id = :id")
+    int removeApprovedRating(@Param("id") Long id, @Param("rating") double rating);
+
+    // Folds several approved reviews in at once: ratingSum/rated over the rated ones, reviews counts all of them
+    @Modifying
+    @Query("UPDATE Publication p SET "
+            + "p.rating = CASE WHEN :rated = 0 THEN p.rating "
+            + "  ELSE (COALESCE(p.rating, 0) * COALESCE(p.ratingCount, 0) + :ratingSum) "
+            + "    / (COALESCE(p.ratingCount, 0) + :rated) END, "
+            + "p.ratingCount = COALESCE(p.ratingCount, 0) + :rated, "
+            + "p.reviewCount = COALESCE(p.reviewCount, 0) + :reviews "
+            + "WHERE p.id = :id")
+    int addApprovedRatings(@Param("id") Long id, @Param("ratingSum") double ratingSum, @Param("rated") int rated,
+                           @Param("reviews") int reviews);
+
+    // For approved reviews without a rating, which count as reviews but not towards the mean
+    @Modifying
+    @Query("UPDATE Publication p SET p.reviewCount = CASE WHEN COALESCE(p.reviewCount, 0) + :delta < 0 THEN 0 "
+            + "ELSE COALESCE(p.reviewCount, 0) + :delta END WHERE p.id = :id")
+    int adjustReviewCount(@Param("id") Long id, @Param("delta") int delta);
+
+    // Recomputes every publication's aggregates as its base figures plus its approved reviews (the same
+    // baseline the incremental updates build on) in one set-based statement, only rewriting rows that drifted
+    @Modifying
+    @Query(nativeQuery = true, value = "UPDATE publications p "
+            + "SET rating = t.rating, rating_count = t.rated, review_count = t.reviews "
+            + "FROM (SELECT b.id, b.base_review_count + COALESCE(a.approved, 0) AS reviews, "
+            + "        b.base_rating_count + COALESCE(a.rated, 0) AS rated, "
+            + "        CASE WHEN b.base_rating_count + COALESCE(a.rated, 0) = 0 THEN 0 "
+            + "          ELSE (b.base_rating * b.base_rating_count + COALESCE(a.rating_sum, 0)) "
+            + "            / (b.base_rating_count + COALESCE(a.rated, 0)) END AS rating "
+            + "      FROM publications b "
+            + "      LEFT JOIN (SELECT publication_id, COUNT(*) AS approved, COUNT(rating) AS rated, "
+            + "                   SUM(rating) AS rating_sum "
+            + "                 FROM reviews WHERE status = 'APPROVED' GROUP BY publication_id) a "
+            + "        ON a.publication_id = b.id) t "
+            + "WHERE p.id = t.id "
+            + "AND (p.review_count IS DISTINCT FROM t.reviews OR p.rating_count IS DISTINCT FROM t.rated "
+            + "     OR p.rating IS NULL OR abs(p.rating - t.rating) > 1e-6)")
+    int reconcileRatingAggregates();
 }
@@ -1,16 +1,69 @@
 package com.readsphere.repository;
 
+import com.readsphere.dto.ReviewModerationTarget;
+import com.readsphere.dto.ReviewResponse;
 import com.readsphere.model.Review;
 import com.readsphere.model.ReviewStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Review, Long> {
+    // Joins the to-one associations once instead of letting serialization lazy-load them per row
+    String RESPONSE_PROJECTION = "SELECT new com.readsphere.dto.ReviewResponse("
+            + "r.id, u.id, u.username, s.id, p.id, p.title, r.issueNumber, r.publicationDate, "
+            + "r.articleName, r.authorLastName, r.content, r.wordCount, r.sentenceCount, r.rating, r.status, "
+            + "r.pointsAwarded, r.submittedDate, r.rejectionReason, r.flaggedDuplicateOf) "
+            + "FROM Review r JOIN r.user u JOIN r.subscription s JOIN r.publication p ";
+
     List<Review> findByUserId(Long userId);
     List<Review> findByStatus(ReviewStatus status);
     List<Review> findByPublicationId(Long publicationId);
     List<Review> findByUserIdAndStatus(Long userId, ReviewStatus status);
+    boolean existsByUserUsernameAndContent(String username, String content);
+
+    String MODERATION_TARGET_PROJECTION = "SELECT new com.readsphere.dto.ReviewModerationTarget("
+            + "r.id, r.user.id, r.publication.id, r.rating, r.status) FROM Review r ";
+
+    @Query(MODERATION_TARGET_PROJECTION + "WHERE r.id IN :ids")
+    List<ReviewModerationTarget> findModerationTargets(@Param("ids") Collection<Long> ids);
+
+    // Oldest pending first, optionally narrowed to one publication and/or reviews submitted on or before a date
+    @Query(MODERATION_TARGET_PROJECTION + "WHERE r.status = com.readsphere.model.ReviewStatus.PENDING "
+            + "AND (:publicationId IS NULL OR r.publication.id = :publicationId) "
+            + "AND (:submittedBefore IS NULL OR r.submittedDate <= :submittedBefore) ORDER BY r.id")
+    List<ReviewModerationTarget> findPendingModerationTargets(@Param("publicationId") Long publicationId,
+                                                              @Param("submittedBefore") LocalDate submittedBefore,
+                                                              Limit limit);
+
+    // Row lock for single-review moderation: a concurrent approval or rejection (single or bulk) waits, then
+    // finds the review no longer PENDING
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Review r WHERE r.id = :id")
+    Optional<Review> findByIdForUpdate(@Param("id") Long id);
+
+    @Query(RESPONSE_PROJECTION + "WHERE u.username = :username ORDER BY r.id")
+    List<ReviewResponse> findResponsesByUsername(@Param("username") String username);
+
+    @Query(RESPONSE_PROJECTION + "WHERE r.status = :status ORDER BY r.id")
+    List<ReviewResponse> findResponsesByStatus(@Param("status") ReviewStatus status);
+
+    // Keyset pagination: callers pass the last id they saw
+    @Query(RESPONSE_PROJECTION + "WHERE r.status = :status AND r.id > :afterId ORDER BY r.id")
+    List<ReviewResponse> findResponsesByStatusAfter(@Param("status") ReviewStatus status,
+                                                    @Param("afterId") Long afterId, Limit limit);
+
+    @Query(RESPONSE_PROJECTION + "WHERE u.username = :username AND r.id > :afterId ORDER BY r.id")
+    List<ReviewResponse> findResponsesByUsernameAfter(@Param("username") String username,
+                                                      @Param("afterId") Long afterId, Limit limit);
 }
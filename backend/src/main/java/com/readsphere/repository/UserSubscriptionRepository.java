@@ -1,9 +1,16 @@
 package com.readsphere.repository;
 
+import com.readsphere.dto.SubscriptionResponse;
 import com.readsphere.model.UserSubscription;
 import com.readsphere.model.SubscriptionStatus;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,5 +20,24 @@ public interface UserSubscriptionRepository extends JpaRepository<UserSubscripti
     List<UserSubscription> findByUserId(Long userId);
     List<UserSubscription> findByUserIdAndStatus(Long userId, SubscriptionStatus status);
     Optional<UserSubscription> findBySubscriptionNumber(String subscriptionNumber);
-    boolean existsBySubscriptionNumber(String subscriptionNumber);
+
+    @Query("SELECT new com.readsphere.dto.SubscriptionResponse("
+            + "s.id, s.subscriptionNumber, s.orderNumber, p.id, p.title, p.type, s.startDate, s.endDate, "
+            + "s.status, s.price, s.issuesPerYear, s.pointsAwarded, s.paidWithPoints, s.refundAmount, "
+            + "s.cancelledDate, s.autoRenew, s.renewalCount) "
+            + "FROM UserSubscription s JOIN s.user u JOIN s.publication p "
+            + "WHERE u.username = :username ORDER BY s.id")
+    List<SubscriptionResponse> findResponsesByUsername(@Param("username") String username);
+
+    // Row lock for user-initiated state changes; SubscriptionLifecycleJob skips rows locked this way
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM UserSubscription s WHERE s.id = :id")
+    Optional<UserSubscription> findByIdForUpdate(@Param("id") Long id);
+
+    // Only the owner's active subscriptions; returns 0 for anything else
+    @Transactional
+    @Modifying
+    @Query("UPDATE UserSubscription s SET s.autoRenew = :enabled WHERE s.id = :id AND s.user.id = :userId "
+            + "AND s.status = com.readsphere.model.SubscriptionStatus.ACTIVE")
+    int updateAutoRenew(@Param("id") Long id, @Param("userId") Long userId, @Param("enabled") boolean enabled);
 }
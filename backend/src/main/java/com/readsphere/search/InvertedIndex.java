@@ -0,0 +1,259 @@
+package com.readsphere.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongPredicate;
+
+/**
+ * Thread-safe inverted index with BM25 ranking. Documents are bags of weighted terms (field boosts are
+ * folded into the term frequency). Each query term is matched exactly, as a prefix of indexed terms and,
+ * for longer terms, within one edit; fuzzy candidates come from a deletion neighbourhood so lookups never
+ * scan the term dictionary.
+ */
+public class InvertedIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final double PREFIX_WEIGHT = 0.8;
+    private static final double FUZZY_WEIGHT = 0.6;
+    private static final int MAX_PREFIX_EXPANSIONS = 50;
+    private static final int MIN_PREFIX_LENGTH = 2;
+    private static final int MIN_FUZZY_LENGTH = 4;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final NavigableMap<String, Map<Long, Float>> postings = new TreeMap<>();
+    private final Map<String, Set<String>> deletions = new HashMap<>();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private double totalLength;
+
+    public static void addField(Map<String, Float> termWeights, String text, float boost) {
+        for (String token : TextTokenizer.tokenize(text)) {
+            termWeights.merge(token, boost, Float::sum);
+        }
+    }
+
+    public void put(long docId, Map<String, Float> termWeights) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(docId);
+            float length = 0f;
+            for (Map.Entry<String, Float> entry : termWeights.entrySet()) {
+                String term = entry.getKey();
+                Map<Long, Float> docs = postings.get(term);
+                if (docs == null) {
+                    docs = new HashMap<>();
+                    postings.put(term, docs);
+                    indexDeletions(term);
+                }
+                docs.put(docId, entry.getValue());
+                length += entry.getValue();
+            }
+            documents.put(docId, new Document(termWeights.keySet().toArray(new String[0]), length));
+            totalLength += length;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(docId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} documents ordered by descending score. Query terms are OR-ed; for each
+     * term only its best expansion counts towards a document so broad prefixes don't dominate.
+     */
+    public List<ScoredDocument> search(List<String> queryTerms, LongPredicate filter, int limit) {
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty() || queryTerms.isEmpty()) {
+                return List.of();
+            }
+            double avgLength = totalLength / documents.size();
+            Map<Long, Double> scores = new HashMap<>();
+
+            for (String queryTerm : new HashSet<>(queryTerms)) {
+                Map<Long, Double> termScores = new HashMap<>();
+                for (Map.Entry<String, Double> expansion : expand(queryTerm).entrySet()) {
+                    Map<Long, Float> docs = postings.get(expansion.getKey());
+                    double idf = Math.log(1 + (documents.size() - docs.size() + 0.5) / (docs.size() + 0.5));
+                    for (Map.Entry<Long, Float> posting : docs.entrySet()) {
+                        long docId = posting.getKey();
+                        if (filter != null && !filter.test(docId)) {
+                            continue;
+                        }
+                        double tf = posting.getValue();
+                        double norm = K1 * (1 - B + B * documents.get(docId).length / avgLength);
+                        double score = expansion.getValue() * idf * tf * (K1 + 1) / (tf + norm);
+                        termScores.merge(docId, score, Math::max);
+                    }
+                }
+                termScores.forEach((docId, score) -> scores.merge(docId, score, Double::sum));
+            }
+            return topK(scores, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Maps each matching indexed term to its match weight (exact > prefix > fuzzy)
+    private Map<String, Double> expand(String queryTerm) {
+        Map<String, Double> expansions = new HashMap<>();
+        if (postings.containsKey(queryTerm)) {
+            expansions.put(queryTerm, 1.0);
+        }
+        if (queryTerm.length() >= MIN_PREFIX_LENGTH) {
+            int added = 0;
+            for (String term : postings.subMap(queryTerm, false, queryTerm + Character.MAX_VALUE, false).keySet()) {
+                if (added++ >= MAX_PREFIX_EXPANSIONS) {
+                    break;
+                }
+                expansions.putIfAbsent(term, PREFIX_WEIGHT);
+            }
+        }
+        if (queryTerm.length() >= MIN_FUZZY_LENGTH) {
+            for (String candidate : fuzzyCandidates(queryTerm)) {
+                if (withinOneEdit(queryTerm, candidate)) {
+                    expansions.putIfAbsent(candidate, FUZZY_WEIGHT);
+                }
+            }
+        }
+        return expansions;
+    }
+
+    private Set<String> fuzzyCandidates(String queryTerm) {
+        Set<String> candidates = new HashSet<>(deletions.getOrDefault(queryTerm, Set.of()));
+        for (int i = 0; i < queryTerm.length(); i++) {
+            String deleted = deleteAt(queryTerm, i);
+            if (postings.containsKey(deleted)) {
+                candidates.add(deleted);
+            }
+            candidates.addAll(deletions.getOrDefault(deleted, Set.of()));
+        }
+        return candidates;
+    }
+
+    private void indexDeletions(String term) {
+        if (term.length() < MIN_FUZZY_LENGTH) {
+            return;
+        }
+        for (int i = 0; i < term.length(); i++) {
+            deletions.computeIfAbsent(deleteAt(term, i), key -> new HashSet<>()).add(term);
+        }
+    }
+
+    private void unindexDeletions(String term) {
+        for (int i = 0; i < term.length(); i++) {
+            String deleted = deleteAt(term, i);
+            Set<String> terms = deletions.get(deleted);
+            if (terms != null && terms.remove(term) && terms.isEmpty()) {
+                deletions.remove(deleted);
+            }
+        }
+    }
+
+    private void removeLocked(long docId) {
+        Document document = documents.remove(docId);
+        if (document == null) {
+            return;
+        }
+        totalLength -= document.length;
+        for (String term : document.terms) {
+            Map<Long, Float> docs = postings.get(term);
+            if (docs != null && docs.remove(docId) != null && docs.isEmpty()) {
+                postings.remove(term);
+                unindexDeletions(term);
+            }
+        }
+    }
+
+    private static List<ScoredDocument> topK(Map<Long, Double> scores, int limit) {
+        PriorityQueue<ScoredDocument> heap = new PriorityQueue<>(
+                (a, b) -> Double.compare(a.getScore(), b.getScore()));
+        for (Map.Entry<Long, Double> entry : scores.entrySet()) {
+            heap.offer(new ScoredDocument(entry.getKey(), entry.getValue()));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        }
+        List<ScoredDocument> ranked = new ArrayList<>(heap);
+        ranked.sort((a, b) -> Double.compare(b.getScore(), a.getScore()));
+        return ranked;
+    }
+
+    private static String deleteAt(String term, int index) {
+        return term.substring(0, index) + term.substring(index + 1);
+    }
+
+    // Levenshtein distance <= 1, also accepting a single adjacent transposition
+    static boolean withinOneEdit(String a, String b) {
+        int lengthDiff = a.length() - b.length();
+        if (Math.abs(lengthDiff) > 1) {
+            return false;
+        }
+        int i = 0;
+        while (i < a.length() && i < b.length() && a.charAt(i) == b.charAt(i)) {
+            i++;
+        }
+        if (lengthDiff > 0) {
+            return a.regionMatches(i + 1, b, i, b.length() - i);
+        }
+        if (lengthDiff < 0) {
+            return b.regionMatches(i + 1, a, i, a.length() - i);
+        }
+        if (i == a.length() || a.regionMatches(i + 1, b, i + 1, a.length() - i - 1)) {
+            return true;
+        }
+        return i + 1 < a.length()
+                && a.charAt(i) == b.charAt(i + 1)
+                && a.charAt(i + 1) == b.charAt(i)
+                && a.regionMatches(i + 2, b, i + 2, a.length() - i - 2);
+    }
+
+    private static final class Document {
+        private final String[] terms;
+        private final float length;
+
+        private Document(String[] terms, float length) {
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+
+    public static final class ScoredDocument {
+        private final long id;
+        private final double score;
+
+        public ScoredDocument(long id, double score) {
+            this.id = id;
+            this.score = score;
+        }
+
+        public long getId() { return id; }
+
+        public double getScore() { return score; }
+    }
+}
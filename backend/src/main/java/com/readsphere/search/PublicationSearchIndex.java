@@ -0,0 +1,137 @@
+package com.readsphere.search;
+
+import com.readsphere.dto.PublicationResponse;
+import com.readsphere.event.PublicationChangedEvent;
+import com.readsphere.model.PublicationType;
+import com.readsphere.repository.PublicationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongPredicate;
+
+// Full-text index over title, description, category and city, kept in step with publication changes
+@Component
+public class PublicationSearchIndex {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicationSearchIndex.class);
+
+    private static final float TITLE_BOOST = 3.0f;
+    private static final float CATEGORY_BOOST = 2.0f;
+    private static final float CITY_BOOST = 1.5f;
+    private static final float DESCRIPTION_BOOST = 1.0f;
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    // Serializes rebuilds and incremental updates; searches only take the index's own read lock
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private volatile Snapshot snapshot = new Snapshot(new InvertedIndex(), new ConcurrentHashMap<>());
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        updateLock.lock();
+        try {
+            long start = System.nanoTime();
+            Snapshot rebuilt = new Snapshot(new InvertedIndex(), new ConcurrentHashMap<>());
+            for (PublicationResponse publication : publicationRepository.findAllResponses()) {
+                rebuilt.index(publication);
+            }
+            snapshot = rebuilt;
+            log.info("Indexed {} publications for search in {} ms",
+                    rebuilt.publications.size(), (System.nanoTime() - start) / 1_000_000);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPublicationChanged(PublicationChangedEvent event) {
+        if (event.isCatalogWide()) {
+            rebuild();
+            return;
+        }
+        updateLock.lock();
+        try {
+            Snapshot current = snapshot;
+            publicationRepository.findResponseById(event.getPublicationId())
+                    .ifPresentOrElse(current::index, () -> current.remove(event.getPublicationId()));
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * Ranked search with optional type/category facets. A blank query lists the facet-filtered catalog,
+     * featured and best-rated first.
+     */
+    public List<PublicationResponse> search(String query, PublicationType type, String category, int limit) {
+        Snapshot current = snapshot;
+        LongPredicate facets = docId -> matchesFacets(current.publications.get(docId), type, category);
+        List<String> terms = TextTokenizer.tokenize(query);
+
+        if (terms.isEmpty()) {
+            return current.publications.values().stream()
+                    .filter(publication -> matchesFacets(publication, type, category))
+                    .sorted(Comparator.comparing((PublicationResponse p) -> Boolean.TRUE.equals(p.getFeatured()))
+                            .thenComparing(p -> p.getRating() == null ? 0.0 : p.getRating())
+                            .reversed())
+                    .limit(limit)
+                    .toList();
+        }
+        return current.index.search(terms, facets, limit).stream()
+                .map(hit -> current.publications.get(hit.getId()))
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    public int size() {
+        return snapshot.publications.size();
+    }
+
+    private static boolean matchesFacets(PublicationResponse publication, PublicationType type, String category) {
+        if (publication == null) {
+            return false;
+        }
+        if (type != null && publication.getType() != type) {
+            return false;
+        }
+        return category == null || category.equalsIgnoreCase(publication.getCategory());
+    }
+
+    private static final class Snapshot {
+        private final InvertedIndex index;
+        private final Map<Long, PublicationResponse> publications;
+
+        private Snapshot(InvertedIndex index, Map<Long, PublicationResponse> publications) {
+            this.index = index;
+            this.publications = publications;
+        }
+
+        private void index(PublicationResponse publication) {
+            Map<String, Float> termWeights = new HashMap<>();
+            InvertedIndex.addField(termWeights, publication.getTitle(), TITLE_BOOST);
+            InvertedIndex.addField(termWeights, publication.getCategory(), CATEGORY_BOOST);
+            InvertedIndex.addField(termWeights, publication.getCity(), CITY_BOOST);
+            InvertedIndex.addField(termWeights, publication.getDescription(), DESCRIPTION_BOOST);
+            publications.put(publication.getId(), publication);
+            index.put(publication.getId(), termWeights);
+        }
+
+        private void remove(Long publicationId) {
+            index.remove(publicationId);
+            publications.remove(publicationId);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.readsphere.search;
+
+import com.readsphere.dto.PublicationResponse;
+import com.readsphere.event.PublicationChangedEvent;
+import com.readsphere.repository.PublicationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Typeahead over publication titles and categories, ranked by featured flag and rating
+@Component
+public class PublicationSuggester {
+
+    public static final int MAX_SUGGESTIONS = 10;
+    private static final double FEATURED_BOOST = 5.0;
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private volatile SuggestionTrie trie = new SuggestionTrie(MAX_SUGGESTIONS);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        updateLock.lock();
+        try {
+            SuggestionTrie rebuilt = new SuggestionTrie(MAX_SUGGESTIONS);
+            for (PublicationResponse publication : publicationRepository.findAllResponses()) {
+                index(rebuilt, publication);
+            }
+            trie = rebuilt;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onPublicationChanged(PublicationChangedEvent event) {
+        if (event.isCatalogWide()) {
+            rebuild();
+            return;
+        }
+        updateLock.lock();
+        try {
+            SuggestionTrie current = trie;
+            publicationRepository.findResponseById(event.getPublicationId())
+                    .ifPresentOrElse(publication -> index(current, publication),
+                            () -> current.remove(event.getPublicationId()));
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    public List<SuggestionTrie.Suggestion> suggest(String prefix, int limit) {
+        return trie.suggest(prefix, Math.min(limit, MAX_SUGGESTIONS));
+    }
+
+    private static void index(SuggestionTrie target, PublicationResponse publication) {
+        double weight = (publication.getRating() == null ? 0.0 : publication.getRating())
+                + (Boolean.TRUE.equals(publication.getFeatured()) ? FEATURED_BOOST : 0.0);
+        SuggestionTrie.Suggestion suggestion = new SuggestionTrie.Suggestion(
+                publication.getId(), publication.getTitle(), publication.getCategory(), weight);
+        target.put(suggestion, keysFor(publication));
+    }
+
+    // Every word-start suffix, so "york" finds "The New York Times" and "politics" finds "News & Politics"
+    private static List<String> keysFor(PublicationResponse publication) {
+        List<String> keys = new ArrayList<>();
+        addWordSuffixes(keys, publication.getTitle());
+        addWordSuffixes(keys, publication.getCategory());
+        return keys;
+    }
+
+    private static void addWordSuffixes(List<String> keys, String text) {
+        List<String> words = TextTokenizer.tokenize(text);
+        for (int i = 0; i < words.size(); i++) {
+            keys.add(String.join(" ", words.subList(i, words.size())));
+        }
+    }
+}
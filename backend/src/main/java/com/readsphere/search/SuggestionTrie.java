@@ -0,0 +1,236 @@
+package com.readsphere.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Prefix trie whose nodes each hold the top-K suggestions (by weight) of their subtree, so a lookup is a
+ * walk down the prefix and nothing more. Children are kept in sorted parallel arrays to stay compact.
+ */
+public class SuggestionTrie {
+
+    private final int topK;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Node root = new Node();
+    // Normalized keys per suggestion id, needed to find its paths again on removal
+    private final Map<Long, Set<String>> entries = new HashMap<>();
+
+    public SuggestionTrie(int topK) {
+        this.topK = topK;
+    }
+
+    /**
+     * Normalizes to lower-case words separated by single spaces, so "New-York  Times" and "new york times"
+     * land on the same path.
+     */
+    public static String normalize(String text) {
+        return String.join(" ", TextTokenizer.tokenize(text));
+    }
+
+    // Indexes the suggestion under every given key (keys are normalized here); replaces any previous entry
+    public void put(Suggestion suggestion, List<String> keys) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(suggestion.getId());
+            Set<String> normalizedKeys = new HashSet<>();
+            for (String key : keys) {
+                String normalized = normalize(key);
+                if (!normalized.isEmpty()) {
+                    normalizedKeys.add(normalized);
+                }
+            }
+            for (String key : normalizedKeys) {
+                Node node = root;
+                node.offer(suggestion, topK);
+                for (int i = 0; i < key.length(); i++) {
+                    node = node.childOrCreate(key.charAt(i));
+                    node.offer(suggestion, topK);
+                }
+                node.terminals.add(suggestion);
+            }
+            entries.put(suggestion.getId(), normalizedKeys);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Suggestion> suggest(String prefix, int limit) {
+        String normalized = normalize(prefix);
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            for (int i = 0; i < normalized.length() && node != null; i++) {
+                node = node.child(normalized.charAt(i));
+            }
+            if (node == null) {
+                return List.of();
+            }
+            int count = Math.min(limit, node.topSize);
+            return count <= 0 ? List.of() : List.of(Arrays.copyOf(node.top, count));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(long id) {
+        Set<String> keys = entries.remove(id);
+        if (keys == null) {
+            return;
+        }
+        for (String key : keys) {
+            // Collect the path first so full nodes can be refilled bottom-up from their (already fixed) children
+            Node[] path = new Node[key.length() + 1];
+            path[0] = root;
+            for (int i = 0; i < key.length(); i++) {
+                path[i + 1] = path[i].child(key.charAt(i));
+            }
+            path[key.length()].terminals.removeIf(s -> s.getId() == id);
+            for (int i = path.length - 1; i >= 0; i--) {
+                path[i].evict(id, topK);
+            }
+        }
+    }
+
+    public static final class Suggestion {
+        private final long id;
+        private final String label;
+        private final String category;
+        private final double weight;
+
+        public Suggestion(long id, String label, String category, double weight) {
+            this.id = id;
+            this.label = label;
+            this.category = category;
+            this.weight = weight;
+        }
+
+        public long getId() { return id; }
+        public String getLabel() { return label; }
+        public String getCategory() { return category; }
+        public double getWeight() { return weight; }
+    }
+
+    private static final class Node {
+        private char[] labels = new char[0];
+        private Node[] children = new Node[0];
+        private final List<Suggestion> terminals = new ArrayList<>(1);
+        private Suggestion[] top = new Suggestion[0];
+        private int topSize;
+        // True once a suggestion was dropped for lack of room, i.e. the subtree holds more than `top`
+        private boolean truncated;
+
+        private Node child(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            return index >= 0 ? children[index] : null;
+        }
+
+        private Node childOrCreate(char c) {
+            int index = Arrays.binarySearch(labels, c);
+            if (index >= 0) {
+                return children[index];
+            }
+            int insertAt = -index - 1;
+            char[] newLabels = new char[labels.length + 1];
+            Node[] newChildren = new Node[children.length + 1];
+            System.arraycopy(labels, 0, newLabels, 0, insertAt);
+            System.arraycopy(children, 0, newChildren, 0, insertAt);
+            newLabels[insertAt] = c;
+            newChildren[insertAt] = new Node();
+            System.arraycopy(labels, insertAt, newLabels, insertAt + 1, labels.length - insertAt);
+            System.arraycopy(children, insertAt, newChildren, insertAt + 1, children.length - insertAt);
+            labels = newLabels;
+            children = newChildren;
+            return newChildren[insertAt];
+        }
+
+        // Inserts into the bounded, weight-descending top list; a suggestion appears at most once per node
+        private void offer(Suggestion suggestion, int k) {
+            for (int i = 0; i < topSize; i++) {
+                if (top[i].getId() == suggestion.getId()) {
+                    return;
+                }
+            }
+            // Grow on demand: most deep nodes only ever hold one suggestion
+            if (topSize == top.length && top.length < k) {
+                top = Arrays.copyOf(top, Math.min(k, Math.max(1, top.length * 2)));
+            }
+            int position = topSize;
+            while (position > 0 && top[position - 1].getWeight() < suggestion.getWeight()) {
+                position--;
+            }
+            if (position >= k) {
+                truncated = true;
+                return;
+            }
+            if (topSize == k) {
+                topSize--;
+                truncated = true;
+            }
+            System.arraycopy(top, position, top, position + 1, topSize - position);
+            top[position] = suggestion;
+            topSize++;
+        }
+
+        private void evict(long id, int k) {
+            int index = -1;
+            for (int i = 0; i < topSize; i++) {
+                if (top[i].getId() == id) {
+                    index = i;
+                    break;
+                }
+            }
+            if (index < 0) {
+                return;
+            }
+            if (!truncated) {
+                System.arraycopy(top, index + 1, top, index, topSize - index - 1);
+                top[--topSize] = null;
+                return;
+            }
+            refill(k);
+        }
+
+        // Rebuilds this node's top list from its own terminals and its children's top lists
+        private void refill(int k) {
+            Node rebuilt = new Node();
+            for (Suggestion suggestion : terminals) {
+                rebuilt.offer(suggestion, k);
+            }
+            boolean childTruncated = false;
+            for (Node child : children) {
+                for (int i = 0; i < child.topSize; i++) {
+                    rebuilt.offer(child.top[i], k);
+                }
+                childTruncated |= child.truncated;
+            }
+            top = rebuilt.top;
+            topSize = rebuilt.topSize;
+            truncated = rebuilt.truncated || childTruncated;
+        }
+    }
+}
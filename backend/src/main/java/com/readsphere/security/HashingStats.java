@@ -0,0 +1,58 @@
+package com.readsphere.security;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Latency and admission counters for PasswordHashingService and the login rate limiter
+public class HashingStats {
+    private final LongAdder hashes = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0);
+    private final LongAdder rejectedQueueFull = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+    private final LongAdder rehashed = new LongAdder();
+
+    private volatile int queueDepth;
+    private volatile int activeThreads;
+
+    void recordHash(long waitNanos, long workNanos) {
+        hashes.increment();
+        hashNanos.add(workNanos);
+        maxHashNanos.accumulate(workNanos);
+        queueWaitNanos.add(waitNanos);
+        maxQueueWaitNanos.accumulate(waitNanos);
+    }
+
+    void recordQueueFull() { rejectedQueueFull.increment(); }
+    void recordTimeout() { timedOut.increment(); }
+    void recordRateLimited() { rateLimited.increment(); }
+    void recordRehash() { rehashed.increment(); }
+
+    void updateQueue(int depth, int active) {
+        this.queueDepth = depth;
+        this.activeThreads = active;
+    }
+
+    public long getHashes() { return hashes.sum(); }
+    public long getRejectedQueueFull() { return rejectedQueueFull.sum(); }
+    public long getTimedOut() { return timedOut.sum(); }
+    public long getRateLimited() { return rateLimited.sum(); }
+    public long getRehashed() { return rehashed.sum(); }
+    public int getQueueDepth() { return queueDepth; }
+    public int getActiveThreads() { return activeThreads; }
+    public double getMaxHashMillis() { return maxHashNanos.get() / 1_000_000.0; }
+    public double getMaxQueueWaitMillis() { return maxQueueWaitNanos.get() / 1_000_000.0; }
+
+    public double getAverageHashMillis() {
+        long count = hashes.sum();
+        return count == 0 ? 0.0 : hashNanos.sum() / 1_000_000.0 / count;
+    }
+
+    public double getAverageQueueWaitMillis() {
+        long count = hashes.sum();
+        return count == 0 ? 0.0 : queueWaitNanos.sum() / 1_000_000.0 / count;
+    }
+}
@@ -1,11 +1,15 @@
 package com.readsphere.security;
 
 import com.readsphere.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -17,6 +21,7 @@ import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
 import java.util.Collections;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
@@ -27,42 +32,101 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // "stateless" trusts the verified token claims; "database" re-checks the user row (e.g. for revocation)
+    @Value("${jwt.auth.mode:stateless}")
+    private String authMode;
+
+    @Value("${jwt.auth.principal-cache.ttl-ms:30000}")
+    private long principalCacheTtlMs;
+
+    @Value("${jwt.auth.principal-cache.max-size:1000}")
+    private int principalCacheMaxSize;
+
+    private boolean stateless;
+    private PrincipalCache principalCache;
+    // Time spent authenticating (not the rest of the chain), by outcome
+    private Timer authenticatedTimer;
+    private Timer rejectedTimer;
+    private Timer anonymousTimer;
+
+    @PostConstruct
+    void initAuthMode() {
+        stateless = !"database".equalsIgnoreCase(authMode);
+        principalCache = new PrincipalCache(principalCacheTtlMs, principalCacheMaxSize);
+        authenticatedTimer = authTimer("authenticated");
+        rejectedTimer = authTimer("rejected");
+        anonymousTimer = authTimer("anonymous");
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
             throws ServletException, IOException {
 
+        long start = System.nanoTime();
+        Timer outcome = anonymousTimer;
         final String authorizationHeader = request.getHeader("Authorization");
 
-        String username = null;
-        String jwt = null;
-
-        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")) {
-            jwt = authorizationHeader.substring(7);
+        if (authorizationHeader != null && authorizationHeader.startsWith("Bearer ")
+                && SecurityContextHolder.getContext().getAuthentication() == null) {
+            outcome = rejectedTimer;
+            VerifiedToken token = null;
             try {
-                username = jwtUtil.extractUsername(jwt);
+                token = jwtUtil.verify(authorizationHeader.substring(7));
             } catch (Exception e) {
                 // Invalid token
             }
-        }
 
-        if (username != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            var userOptional = userRepository.findByUsername(username);
-            if (userOptional.isPresent()) {
-                var user = userOptional.get();
-                if (jwtUtil.validateToken(jwt, username)) {
-                    UserDetails userDetails = User.builder()
-                            .username(user.getUsername())
-                            .password(user.getPassword())
-                            .authorities(Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name())))
-                            .build();
+            if (token != null && token.getSubject() != null) {
+                UserDetails userDetails = stateless
+                        ? principalFromClaims(token)
+                        : principalCache.get(token.getSubject(), this::loadPrincipal);
 
+                if (userDetails != null) {
                     UsernamePasswordAuthenticationToken authToken =
                             new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
                     authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
                     SecurityContextHolder.getContext().setAuthentication(authToken);
+                    outcome = authenticatedTimer;
                 }
             }
         }
+        outcome.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         chain.doFilter(request, response);
     }
+
+    public PrincipalCache getPrincipalCache() {
+        return principalCache;
+    }
+
+    private Timer authTimer(String outcome) {
+        return Timer.builder("readsphere.auth.filter")
+                .description("JWT authentication per request")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    private UserDetails principalFromClaims(VerifiedToken token) {
+        if (token.getRole() == null) {
+            return null;
+        }
+        return buildPrincipal(token.getSubject(), token.getRole());
+    }
+
+    private UserDetails loadPrincipal(String username) {
+        return userRepository.findByUsername(username)
+                .map(user -> buildPrincipal(user.getUsername(), user.getRole().name()))
+                .orElse(null);
+    }
+
+    // Requests are authenticated by token only, so the principal never carries the password hash
+    private UserDetails buildPrincipal(String username, String role) {
+        return User.builder()
+                .username(username)
+                .password("")
+                .authorities(Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)))
+                .build();
+    }
 }
@@ -0,0 +1,83 @@
+package com.readsphere.security;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-username and per-client-IP rate shaping for password checks, applied before any hashing work is
+ * queued. Each key is a GCRA token bucket held in a single AtomicLong (its "theoretical arrival time"),
+ * so admission is one lock-free CAS and idle buckets are plain timestamps that are easy to purge.
+ */
+@Component
+public class LoginRateLimiter {
+
+    @Value("${security.login.rate.per-username-per-minute:10}")
+    private int perUsernamePerMinute;
+
+    @Value("${security.login.rate.username-burst:5}")
+    private int usernameBurst;
+
+    @Value("${security.login.rate.per-ip-per-minute:60}")
+    private int perIpPerMinute;
+
+    @Value("${security.login.rate.ip-burst:20}")
+    private int ipBurst;
+
+    @Autowired
+    private PasswordHashingService hashingService;
+
+    private final Map<String, AtomicLong> usernameBuckets = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> ipBuckets = new ConcurrentHashMap<>();
+
+    public void checkLogin(String username, String clientIp) {
+        // IP first: a client spraying many usernames is stopped without creating a bucket per name
+        admit(ipBuckets, clientIp, perIpPerMinute, ipBurst);
+        if (username != null) {
+            admit(usernameBuckets, username.toLowerCase(Locale.ROOT), perUsernamePerMinute, usernameBurst);
+        }
+    }
+
+    public void checkSignup(String clientIp) {
+        admit(ipBuckets, clientIp, perIpPerMinute, ipBurst);
+    }
+
+    // Buckets whose arrival time has passed are full again and carry no state worth keeping
+    @Scheduled(fixedDelay = 60_000)
+    public void purgeIdleBuckets() {
+        long now = System.nanoTime();
+        usernameBuckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+        ipBuckets.values().removeIf(bucket -> bucket.get() - now <= 0);
+    }
+
+    private void admit(Map<String, AtomicLong> buckets, String key, int perMinute, int burst) {
+        if (key == null || perMinute <= 0) {
+            return;
+        }
+        long interval = TimeUnit.MINUTES.toNanos(1) / perMinute;
+        long tolerance = interval * Math.max(0, burst - 1);
+        AtomicLong bucket = buckets.computeIfAbsent(key, k -> new AtomicLong(System.nanoTime()));
+        while (true) {
+            long now = System.nanoTime();
+            long arrival = bucket.get();
+            long base = arrival - now > 0 ? arrival : now;
+            if (base - now > tolerance) {
+                hashingService.recordRateLimited();
+                throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS,
+                        "Too many attempts, please wait before trying again");
+            }
+            if (bucket.compareAndSet(arrival, base + interval)) {
+                return;
+            }
+        }
+    }
+}
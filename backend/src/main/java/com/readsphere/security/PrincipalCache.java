@@ -0,0 +1,46 @@
+package com.readsphere.security;
+
+import com.readsphere.cache.CacheStats;
+import com.readsphere.cache.ExpiringCache;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.function.Function;
+
+// Short-lived username -> UserDetails cache for the database-backed authentication mode
+public class PrincipalCache {
+    private final long ttlMillis;
+    private final ExpiringCache<String, UserDetails> entries;
+
+    public PrincipalCache(long ttlMillis, int maxSize) {
+        this.ttlMillis = ttlMillis;
+        this.entries = new ExpiringCache<>(ttlMillis > 0 ? maxSize : 0);
+    }
+
+    /**
+     * Returns the cached principal or loads it; a {@code null} result (unknown user) is not cached,
+     * so a deleted account is rejected on its very next request.
+     */
+    public UserDetails get(String username, Function<String, UserDetails> loader) {
+        long now = System.currentTimeMillis();
+        UserDetails cached = entries.get(username, now);
+        if (cached != null) {
+            return cached;
+        }
+
+        UserDetails principal = loader.apply(username);
+        if (principal == null) {
+            entries.evict(username);
+            return null;
+        }
+        entries.put(username, principal, now + ttlMillis, now);
+        return principal;
+    }
+
+    public void evict(String username) {
+        entries.evict(username);
+    }
+
+    public CacheStats getStats() {
+        return entries.getStats();
+    }
+}
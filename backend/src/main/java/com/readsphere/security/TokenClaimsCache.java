@@ -0,0 +1,32 @@
+package com.readsphere.security;
+
+import com.readsphere.cache.CacheStats;
+import com.readsphere.cache.ExpiringCache;
+
+/**
+ * Bounded map from raw token to its verified claims. Entries die with the token's own expiry; eviction
+ * when full is {@link ExpiringCache}'s.
+ */
+public class TokenClaimsCache {
+    private final ExpiringCache<String, VerifiedToken> entries;
+
+    public TokenClaimsCache(int maxSize) {
+        this.entries = new ExpiringCache<>(maxSize);
+    }
+
+    public VerifiedToken get(String token, long nowMillis) {
+        return entries.get(token, nowMillis);
+    }
+
+    public void put(String token, VerifiedToken verified, long nowMillis) {
+        entries.put(token, verified, verified.getExpiresAtMillis(), nowMillis);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public CacheStats getStats() {
+        return entries.getStats();
+    }
+}
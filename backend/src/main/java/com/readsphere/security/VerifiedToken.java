@@ -0,0 +1,27 @@
+package com.readsphere.security;
+
+import java.util.Date;
+
+// Claims of a token whose signature has already been checked
+public class VerifiedToken {
+    private final String subject;
+    private final String role;
+    private final long expiresAtMillis;
+
+    public VerifiedToken(String subject, String role, long expiresAtMillis) {
+        this.subject = subject;
+        this.role = role;
+        this.expiresAtMillis = expiresAtMillis;
+    }
+
+    public String getSubject() { return subject; }
+
+    public String getRole() { return role; }
+
+    public Date getExpiration() { return new Date(expiresAtMillis); }
+    public long getExpiresAtMillis() { return expiresAtMillis; }
+
+    public boolean isExpired(long nowMillis) {
+        return nowMillis >= expiresAtMillis;
+    }
+}
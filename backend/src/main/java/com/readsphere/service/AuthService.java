@@ -5,8 +5,10 @@ import com.readsphere.model.User;
 import com.readsphere.model.UserRole;
 import com.readsphere.repository.UserRepository;
 import com.readsphere.security.JwtUtil;
+import com.readsphere.security.PasswordHashingService;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
 @Service
@@ -16,11 +18,16 @@ public class AuthService {
     private UserRepository userRepository;
 
     @Autowired
-    private PasswordEncoder passwordEncoder;
+    private PasswordHashingService passwordHashing;
+
+    // Re-hash on successful login when the stored hash is cheaper than security.bcrypt.strength
+    @Value("${security.bcrypt.rehash-on-login:true}")
+    private boolean rehashOnLogin;
 
     @Autowired
     private JwtUtil jwtUtil;
 
+    @Timed("readsphere.auth.signup")
     public AuthResponse signup(SignupRequest request) {
         if (userRepository.existsByUsername(request.getUsername())) {
             throw new RuntimeException("Username already exists");
@@ -32,7 +39,7 @@ public class AuthService {
 
         User user = new User();
         user.setUsername(request.getUsername());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
+        user.setPassword(passwordHashing.encode(request.getPassword()));
         user.setEmail(request.getEmail());
         user.setFirstName(request.getFirstName());
         user.setLastName(request.getLastName());
@@ -48,36 +55,27 @@ public class AuthService {
         user = userRepository.save(user);
 
         String token = jwtUtil.generateToken(user.getUsername(), user.getRole().name());
-        return new AuthResponse(token, mapToUserResponse(user));
+        return new AuthResponse(token, UserResponse.from(user));
     }
 
+    // Not transactional: no connection is held while the password is hashed
+    @Timed("readsphere.auth.login")
     public AuthResponse login(LoginRequest request) {
         User user = userRepository.findByUsername(request.getUsername())
                 .orElseThrow(() -> new RuntimeException("Invalid credentials"));
 
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHashing.matches(request.getPassword(), user.getPassword())) {
             throw new RuntimeException("Invalid credentials");
         }
 
-        String token = jwtUtil.generateToken(user.getUsername(), user.getRole().name());
-        return new AuthResponse(token, mapToUserResponse(user));
-    }
+        // Migrates stored hashes to the configured cost one login at a time, no mass migration needed
+        if (rehashOnLogin && passwordHashing.needsUpgrade(user.getPassword())) {
+            String upgraded = passwordHashing.encode(request.getPassword());
+            userRepository.updatePasswordHash(user.getId(), user.getPassword(), upgraded);
+            passwordHashing.recordRehash();
+        }
 
-    private UserResponse mapToUserResponse(User user) {
-        UserResponse response = new UserResponse();
-        response.setId(user.getId());
-        response.setUsername(user.getUsername());
-        response.setEmail(user.getEmail());
-        response.setFirstName(user.getFirstName());
-        response.setLastName(user.getLastName());
-        response.setMiddleInitial(user.getMiddleInitial());
-        response.setAddress(user.getAddress());
-        response.setCardNumber(user.getCardNumber());
-        response.setExpiryDate(user.getExpiryDate());
-        response.setCvv(user.getCvv());
-        response.setNameOnCard(user.getNameOnCard());
-        response.setPoints(user.getPoints());
-        response.setRole(user.getRole());
-        return response;
+        String token = jwtUtil.generateToken(user.getUsername(), user.getRole().name());
+        return new AuthResponse(token, UserResponse.from(user));
     }
 }
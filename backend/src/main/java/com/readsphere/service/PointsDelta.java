@@ -0,0 +1,31 @@
+package com.readsphere.service;
+
+import com.readsphere.model.PointsReason;
+
+// One signed change to a user's balance; negative amounts are redemptions that require enough points
+public class PointsDelta {
+    private final Long userId;
+    private final int amount;
+    private final PointsReason reason;
+    private final String reference;
+
+    public PointsDelta(Long userId, int amount, PointsReason reason, String reference) {
+        this.userId = userId;
+        this.amount = amount;
+        this.reason = reason;
+        this.reference = reference;
+    }
+
+    public static PointsDelta credit(Long userId, int points, PointsReason reason, String reference) {
+        return new PointsDelta(userId, points, reason, reference);
+    }
+
+    public static PointsDelta debit(Long userId, int points, PointsReason reason, String reference) {
+        return new PointsDelta(userId, -points, reason, reference);
+    }
+
+    public Long getUserId() { return userId; }
+    public int getAmount() { return amount; }
+    public PointsReason getReason() { return reason; }
+    public String getReference() { return reference; }
+}
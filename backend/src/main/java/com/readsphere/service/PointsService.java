@@ -0,0 +1,163 @@
+package com.readsphere.service;
+
+import com.readsphere.model.PointsReason;
+import com.readsphere.model.User;
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Points balances are only ever changed here, by single conditional statements that update the balance
+ * and append the matching ledger rows atomically. There is no read-modify-write in Java, so concurrent
+ * awards and redemptions for the same user cannot lose updates.
+ */
+@Service
+public class PointsService {
+
+    // One statement per user: applies the net delta if the balance covers all redemptions, and writes one
+    // ledger row per original delta. Inserts nothing (update count 0) when the balance is insufficient.
+    private static final String POST_SQL =
+            "WITH updated AS ("
+            + "  UPDATE users SET points = COALESCE(points, 0) + ?"
+            + "  WHERE id = ? AND COALESCE(points, 0) >= ?"
+            + "  RETURNING id, points"
+            + ") "
+            + "INSERT INTO points_transactions (user_id, delta, balance_after, reason, reference, created_at) "
+            + "SELECT updated.id, d.delta, updated.points, d.reason, d.reference, now() "
+            + "FROM updated CROSS JOIN unnest(?::int[], ?::text[], ?::text[]) AS d(delta, reason, reference)";
+
+    // Clawbacks never push a balance below zero, so the ledger records the amount actually removed
+    private static final String CLAW_BACK_SQL =
+            "WITH locked AS ("
+            + "  SELECT id, COALESCE(points, 0) AS old_points FROM users WHERE id = ? FOR UPDATE"
+            + "), updated AS ("
+            + "  UPDATE users u SET points = GREATEST(locked.old_points - ?, 0)"
+            + "  FROM locked WHERE u.id = locked.id"
+            + "  RETURNING u.id, u.points, u.points - locked.old_points AS delta"
+            + ") "
+            + "INSERT INTO points_transactions (user_id, delta, balance_after, reason, reference, created_at) "
+            + "SELECT id, delta, points, ?, ?, now() FROM updated WHERE delta <> 0 "
+            + "RETURNING delta";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Transactional
+    public void credit(Long userId, int points, PointsReason reason, String reference) {
+        post(List.of(PointsDelta.credit(userId, points, reason, reference)));
+    }
+
+    @Transactional
+    public void debit(Long userId, int points, PointsReason reason, String reference) {
+        post(List.of(PointsDelta.debit(userId, points, reason, reference)));
+    }
+
+    /**
+     * Applies all deltas in one JDBC batch. Deltas are grouped per user so a hot user costs one row update
+     * regardless of how many deltas it has; a user's redemptions are checked against the balance as it was
+     * before this posting. Throws (rolling back the caller's transaction) if any user lacks the points.
+     */
+    @Transactional
+    public void post(Collection<PointsDelta> deltas) {
+        Map<Long, List<PointsDelta>> byUser = new LinkedHashMap<>();
+        for (PointsDelta delta : deltas) {
+            if (delta.getAmount() != 0) {
+                byUser.computeIfAbsent(delta.getUserId(), id -> new ArrayList<>()).add(delta);
+            }
+        }
+        if (byUser.isEmpty()) {
+            return;
+        }
+
+        List<List<PointsDelta>> groups = new ArrayList<>(byUser.values());
+        int[] inserted = jdbcTemplate.batchUpdate(POST_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                bindGroup(ps, groups.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return groups.size();
+            }
+        });
+
+        for (int i = 0; i < inserted.length; i++) {
+            if (inserted[i] == 0) {
+                throw new RuntimeException("Insufficient points");
+            }
+        }
+        evictCachedUsers(byUser.keySet());
+    }
+
+    // Removes up to `points` from the balance (never below zero); returns how many were actually removed
+    @Transactional
+    public int clawBack(Long userId, int points, PointsReason reason, String reference) {
+        if (points <= 0) {
+            return 0;
+        }
+        List<Integer> removed = jdbcTemplate.query(
+                CLAW_BACK_SQL,
+                (rs, rowNum) -> -rs.getInt(1),
+                userId, points, reason.name(), reference);
+        evictCachedUsers(List.of(userId));
+        return removed.isEmpty() ? 0 : removed.get(0);
+    }
+
+    // These statements bypass Hibernate, so cached User entities must be dropped by hand: now, and again after
+    // commit in case a concurrent reader re-cached the old balance in between
+    private void evictCachedUsers(Collection<Long> userIds) {
+        List<Long> ids = List.copyOf(userIds);
+        Cache cache = entityManagerFactory.getCache();
+        ids.forEach(id -> cache.evict(User.class, id));
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    ids.forEach(id -> cache.evict(User.class, id));
+                }
+            });
+        }
+    }
+
+    private static void bindGroup(PreparedStatement ps, List<PointsDelta> group) throws SQLException {
+        int net = 0;
+        int required = 0;
+        Integer[] amounts = new Integer[group.size()];
+        String[] reasons = new String[group.size()];
+        String[] references = new String[group.size()];
+        for (int i = 0; i < group.size(); i++) {
+            PointsDelta delta = group.get(i);
+            net += delta.getAmount();
+            if (delta.getAmount() < 0) {
+                required -= delta.getAmount();
+            }
+            amounts[i] = delta.getAmount();
+            reasons[i] = delta.getReason().name();
+            references[i] = delta.getReference();
+        }
+        ps.setInt(1, net);
+        ps.setLong(2, group.get(0).getUserId());
+        ps.setInt(3, required);
+        ps.setArray(4, ps.getConnection().createArrayOf("integer", amounts));
+        ps.setArray(5, ps.getConnection().createArrayOf("text", reasons));
+        ps.setArray(6, ps.getConnection().createArrayOf("text", references));
+    }
+}
@@ -0,0 +1,86 @@
+package com.readsphere.service;
+
+import com.readsphere.dto.ReviewModerationTarget;
+import com.readsphere.event.PublicationChangedEvent;
+import com.readsphere.model.ReviewStatus;
+import com.readsphere.repository.PublicationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Keeps {@code Publication.rating}, {@code ratingCount} and {@code reviewCount} in step with approved
+ * reviews. Each status transition costs one single-row update; a scheduled reconciliation repairs drift.
+ * Both go through bulk statements, so they publish the change event the entity listener would have.
+ */
+@Service
+public class PublicationRatingService {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicationRatingService.class);
+
+    @Autowired
+    private PublicationRepository publicationRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Only moves into or out of APPROVED change the aggregates; PENDING <-> REJECTED is a no-op
+    @Transactional
+    public void onReviewTransition(Long publicationId, Integer rating, ReviewStatus from, ReviewStatus to) {
+        boolean wasCounted = from == ReviewStatus.APPROVED;
+        boolean isCounted = to == ReviewStatus.APPROVED;
+        if (wasCounted == isCounted) {
+            return;
+        }
+
+        if (rating == null) {
+            publicationRepository.adjustReviewCount(publicationId, isCounted ? 1 : -1);
+        } else if (isCounted) {
+            publicationRepository.addApprovedRating(publicationId, rating);
+        } else {
+            publicationRepository.removeApprovedRating(publicationId, rating);
+        }
+        eventPublisher.publishEvent(new PublicationChangedEvent(publicationId));
+    }
+
+    // Bulk approval: one aggregate update per affected publication, then a single catalog-wide change event
+    @Transactional
+    public void onReviewsApproved(Collection<ReviewModerationTarget> approved) {
+        Map<Long, double[]> perPublication = new HashMap<>();
+        for (ReviewModerationTarget review : approved) {
+            // [rating sum, rated reviews, all reviews]
+            double[] totals = perPublication.computeIfAbsent(review.getPublicationId(), id -> new double[3]);
+            if (review.getRating() != null) {
+                totals[0] += review.getRating();
+                totals[1]++;
+            }
+            totals[2]++;
+        }
+        if (perPublication.isEmpty()) {
+            return;
+        }
+        perPublication.forEach((publicationId, totals) -> publicationRepository.addApprovedRatings(
+                publicationId, totals[0], (int) totals[1], (int) totals[2]));
+        eventPublisher.publishEvent(PublicationChangedEvent.catalogWide());
+    }
+
+    @Scheduled(initialDelayString = "${ratings.reconcile.initial-delay-ms:60000}",
+            fixedDelayString = "${ratings.reconcile.interval-ms:3600000}")
+    @Transactional
+    public int reconcile() {
+        int repaired = publicationRepository.reconcileRatingAggregates();
+        if (repaired > 0) {
+            log.warn("Rating reconciliation repaired aggregates of {} publications", repaired);
+            eventPublisher.publishEvent(PublicationChangedEvent.catalogWide());
+        }
+        return repaired;
+    }
+}
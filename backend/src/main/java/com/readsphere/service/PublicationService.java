@@ -1,9 +1,16 @@
 package com.readsphere.service;
 
-import com.readsphere.model.Publication;
+import com.readsphere.cache.PublicationCatalogCache;
+import com.readsphere.config.PaginationSettings;
+import com.readsphere.dto.CursorPage;
+import com.readsphere.dto.PublicationResponse;
+import com.readsphere.dto.SuggestionResponse;
 import com.readsphere.model.PublicationType;
 import com.readsphere.repository.PublicationRepository;
+import com.readsphere.search.PublicationSearchIndex;
+import com.readsphere.search.PublicationSuggester;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
@@ -14,25 +21,61 @@ public class PublicationService {
     @Autowired
     private PublicationRepository publicationRepository;
 
-    public List<Publication> getAllPublications() {
-        return publicationRepository.findAll();
+    @Autowired
+    private PublicationCatalogCache catalogCache;
+
+    @Autowired
+    private PaginationSettings paginationSettings;
+
+    @Autowired
+    private PublicationSearchIndex searchIndex;
+
+    @Autowired
+    private PublicationSuggester suggester;
+
+    public List<PublicationResponse> getAllPublications() {
+        return catalogCache.getAll();
+    }
+
+    public CursorPage<PublicationResponse> getPublicationPage(String cursor, Integer size) {
+        int pageSize = paginationSettings.resolvePageSize(size);
+        List<PublicationResponse> fetched = publicationRepository.findResponsesAfter(
+                CursorPage.decodeCursor(cursor), Limit.of(pageSize + 1));
+        return CursorPage.of(fetched, pageSize, PublicationResponse::getId);
     }
 
-    public Publication getPublicationById(Long id) {
-        return publicationRepository.findById(id)
+    public PublicationResponse getPublicationById(Long id) {
+        return catalogCache.getById(id)
                 .orElseThrow(() -> new RuntimeException("Publication not found"));
     }
 
-    public List<Publication> getPublicationsByType(String type) {
+    public List<PublicationResponse> getPublicationsByType(String type) {
         PublicationType publicationType = PublicationType.valueOf(type.toUpperCase());
-        return publicationRepository.findByType(publicationType);
+        return catalogCache.getByType(publicationType);
+    }
+
+    public List<PublicationResponse> getFeaturedPublications() {
+        return catalogCache.getFeatured();
+    }
+
+    public List<PublicationResponse> getPopularPublications(Integer size) {
+        List<PublicationResponse> popular = catalogCache.getPopular();
+        return popular.subList(0, Math.min(popular.size(), paginationSettings.resolvePageSize(size)));
     }
 
-    public List<Publication> getFeaturedPublications() {
-        return publicationRepository.findByFeaturedTrue();
+    public List<PublicationResponse> searchPublications(String query, String type, String category, Integer size) {
+        PublicationType publicationType = type == null || type.isBlank()
+                ? null
+                : PublicationType.valueOf(type.toUpperCase());
+        String categoryFacet = category == null || category.isBlank() ? null : category;
+        return searchIndex.search(query, publicationType, categoryFacet, paginationSettings.resolvePageSize(size));
     }
 
-    public List<Publication> searchPublications(String query) {
-        return publicationRepository.findByTitleContainingIgnoreCase(query);
+    public List<SuggestionResponse> suggestPublications(String prefix, Integer limit) {
+        int max = limit == null || limit <= 0 ? PublicationSuggester.MAX_SUGGESTIONS : limit;
+        return suggester.suggest(prefix, max).stream()
+                .map(suggestion -> new SuggestionResponse(
+                        suggestion.getId(), suggestion.getLabel(), suggestion.getCategory()))
+                .toList();
     }
 }
@@ -0,0 +1,145 @@
+package com.readsphere.service;
+
+import com.readsphere.dto.BulkReviewModerationRequest;
+import com.readsphere.dto.BulkReviewModerationResponse;
+import com.readsphere.dto.BulkReviewModerationResponse.ItemResult;
+import com.readsphere.dto.ReviewModerationTarget;
+import com.readsphere.model.PointsReason;
+import com.readsphere.model.ReviewStatus;
+import com.readsphere.repository.ReviewRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Moderates many reviews per call with a fixed number of statements: one projection query for the
+ * targets, one JDBC batch of guarded status updates, one points posting (one update per user) and one
+ * aggregate update per affected publication.
+ */
+@Service
+public class ReviewBulkModerationService {
+
+    public static final int MAX_BULK_ITEMS = 1000;
+
+    private static final String APPROVE_SQL =
+            "UPDATE reviews SET status = 'APPROVED', points_awarded = ? WHERE id = ? AND status = 'PENDING'";
+    private static final String REJECT_SQL =
+            "UPDATE reviews SET status = 'REJECTED', rejection_reason = ? WHERE id = ? AND status = 'PENDING'";
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PointsService pointsService;
+
+    @Autowired
+    private PublicationRatingService ratingService;
+
+    @Transactional
+    public BulkReviewModerationResponse moderate(BulkReviewModerationRequest request) {
+        boolean approve = parseAction(request.getAction());
+        List<Long> requestedIds;
+        Map<Long, ReviewModerationTarget> targets;
+
+        if (request.getIds() != null && !request.getIds().isEmpty()) {
+            requestedIds = new ArrayList<>(new LinkedHashSet<>(request.getIds()));
+            if (requestedIds.size() > MAX_BULK_ITEMS) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                        "At most " + MAX_BULK_ITEMS + " reviews per bulk request");
+            }
+            targets = reviewRepository.findModerationTargets(requestedIds).stream()
+                    .collect(Collectors.toMap(ReviewModerationTarget::getId, Function.identity()));
+        } else {
+            int limit = request.getLimit() == null ? MAX_BULK_ITEMS : Math.min(request.getLimit(), MAX_BULK_ITEMS);
+            if (limit <= 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "limit must be positive");
+            }
+            List<ReviewModerationTarget> pending = reviewRepository.findPendingModerationTargets(
+                    request.getPublicationId(), request.getSubmittedBefore(), Limit.of(limit));
+            requestedIds = pending.stream().map(ReviewModerationTarget::getId).toList();
+            targets = pending.stream()
+                    .collect(Collectors.toMap(ReviewModerationTarget::getId, Function.identity()));
+        }
+
+        List<ReviewModerationTarget> candidates = new ArrayList<>();
+        for (Long id : requestedIds) {
+            ReviewModerationTarget target = targets.get(id);
+            if (target != null && target.getStatus() == ReviewStatus.PENDING) {
+                candidates.add(target);
+            }
+        }
+
+        // Guarded by status = 'PENDING', so a review moderated concurrently reports 0 rows and is skipped
+        List<Object[]> batchArgs = new ArrayList<>(candidates.size());
+        for (ReviewModerationTarget target : candidates) {
+            Object value = approve ? ReviewService.APPROVAL_POINTS : request.getReason();
+            batchArgs.add(new Object[] {value, target.getId()});
+        }
+        int[] updated = candidates.isEmpty()
+                ? new int[0]
+                : jdbcTemplate.batchUpdate(approve ? APPROVE_SQL : REJECT_SQL, batchArgs);
+
+        List<ReviewModerationTarget> transitioned = new ArrayList<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            if (updated[i] > 0) {
+                transitioned.add(candidates.get(i));
+            }
+        }
+        if (approve) {
+            awardApprovals(transitioned);
+        }
+
+        Map<Long, ItemResult.Outcome> outcomes = new HashMap<>();
+        for (ReviewModerationTarget target : transitioned) {
+            outcomes.put(target.getId(), approve ? ItemResult.Outcome.APPROVED : ItemResult.Outcome.REJECTED);
+        }
+        List<ItemResult> results = new ArrayList<>(requestedIds.size());
+        for (Long id : requestedIds) {
+            ItemResult.Outcome outcome = outcomes.get(id);
+            if (outcome == null) {
+                outcome = targets.containsKey(id) ? ItemResult.Outcome.NOT_PENDING : ItemResult.Outcome.NOT_FOUND;
+            }
+            results.add(new ItemResult(id, outcome));
+        }
+        return new BulkReviewModerationResponse(results);
+    }
+
+    private void awardApprovals(List<ReviewModerationTarget> approved) {
+        if (approved.isEmpty()) {
+            return;
+        }
+        // One ledger row per review, but PointsService folds each user's rows into a single balance update
+        List<PointsDelta> deltas = new ArrayList<>(approved.size());
+        for (ReviewModerationTarget target : approved) {
+            deltas.add(PointsDelta.credit(target.getUserId(), ReviewService.APPROVAL_POINTS,
+                    PointsReason.REVIEW_APPROVED, "REVIEW-" + target.getId()));
+        }
+        pointsService.post(deltas);
+        ratingService.onReviewsApproved(approved);
+    }
+
+    private static boolean parseAction(String action) {
+        if ("approve".equalsIgnoreCase(action)) {
+            return true;
+        }
+        if ("reject".equalsIgnoreCase(action)) {
+            return false;
+        }
+        throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "action must be \"approve\" or \"reject\"");
+    }
+}
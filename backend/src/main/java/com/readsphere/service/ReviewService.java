@@ -1,11 +1,20 @@
 package com.readsphere.service;
 
+import com.readsphere.config.PaginationSettings;
+import com.readsphere.dto.CursorPage;
 import com.readsphere.dto.ReviewRequest;
+import com.readsphere.dto.ReviewResponse;
+import com.readsphere.event.ReviewSubmittedEvent;
 import com.readsphere.model.*;
+import com.readsphere.moderation.ReviewDuplicateIndex;
 import com.readsphere.repository.ReviewRepository;
 import com.readsphere.repository.UserRepository;
 import com.readsphere.repository.UserSubscriptionRepository;
+import com.readsphere.text.TextMetrics;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +25,8 @@ import java.util.List;
 @Service
 public class ReviewService {
 
+    public static final int APPROVAL_POINTS = 200;
+
     @Autowired
     private ReviewRepository reviewRepository;
 
@@ -26,36 +37,62 @@ public class ReviewService {
     private UserSubscriptionRepository subscriptionRepository;
 
     @Autowired
-    private UserService userService;
+    private PointsService pointsService;
 
-    public List<Review> getUserReviews(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        return reviewRepository.findByUserId(user.getId());
+    @Autowired
+    private PaginationSettings paginationSettings;
+
+    @Autowired
+    private PublicationRatingService ratingService;
+
+    @Autowired
+    private ReviewDuplicateIndex duplicateIndex;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    public List<ReviewResponse> getUserReviews(String username) {
+        return reviewRepository.findResponsesByUsername(username);
     }
 
-    public List<Review> getPendingReviews() {
-        return reviewRepository.findByStatus(ReviewStatus.PENDING);
+    public CursorPage<ReviewResponse> getUserReviewPage(String username, String cursor, Integer size) {
+        int pageSize = paginationSettings.resolvePageSize(size);
+        List<ReviewResponse> fetched = reviewRepository.findResponsesByUsernameAfter(
+                username, CursorPage.decodeCursor(cursor), Limit.of(pageSize + 1));
+        return CursorPage.of(fetched, pageSize, ReviewResponse::getId);
     }
 
-    public List<Review> getApprovedReviews() {
-        return reviewRepository.findByStatus(ReviewStatus.APPROVED);
+    public CursorPage<ReviewResponse> getReviewPage(ReviewStatus status, String cursor, Integer size) {
+        int pageSize = paginationSettings.resolvePageSize(size);
+        List<ReviewResponse> fetched = reviewRepository.findResponsesByStatusAfter(
+                status, CursorPage.decodeCursor(cursor), Limit.of(pageSize + 1));
+        return CursorPage.of(fetched, pageSize, ReviewResponse::getId);
     }
 
-    public List<Review> getRejectedReviews() {
-        return reviewRepository.findByStatus(ReviewStatus.REJECTED);
+    public List<ReviewResponse> getPendingReviews() {
+        return reviewRepository.findResponsesByStatus(ReviewStatus.PENDING);
     }
 
-    @Transactional
-    public Review submitReview(String username, ReviewRequest request) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public List<ReviewResponse> getApprovedReviews() {
+        return reviewRepository.findResponsesByStatus(ReviewStatus.APPROVED);
+    }
 
-        UserSubscription subscription = subscriptionRepository.findById(request.getSubscriptionId())
-                .orElseThrow(() -> new RuntimeException("Subscription not found"));
+    public List<ReviewResponse> getRejectedReviews() {
+        return reviewRepository.findResponsesByStatus(ReviewStatus.REJECTED);
+    }
 
-        if (!subscription.getUser().getId().equals(user.getId())) {
-            throw new RuntimeException("Unauthorized");
+    @Timed("readsphere.reviews.submit")
+    @Transactional
+    public ReviewResponse submitReview(String username, ReviewRequest request) {
+        TextMetrics metrics = TextMetrics.analyze(request.getContent());
+        validateReview(request, metrics);
+        return createReview(username, request, metrics, null);
+    }
+
+    // Request-only checks, no database access; the moderation pipeline runs these on its workers
+    public void validateReview(ReviewRequest request, TextMetrics metrics) {
+        if (request.getPublicationDate() == null || request.getContent() == null) {
+            throw new RuntimeException("Publication date and content are required");
         }
 
         // Validate publication date is within 30 days
@@ -64,19 +101,36 @@ public class ReviewService {
             throw new RuntimeException("Review must be submitted within 30 days of publication");
         }
 
-        // Count words and sentences
-        String content = request.getContent();
-        int wordCount = content.trim().split("\\s+").length;
-        int sentenceCount = content.split("[.!?]+").length;
-
-        if (wordCount < 50) {
+        if (metrics.getWordCount() < 50) {
             throw new RuntimeException("Review must contain at least 50 words");
         }
 
-        if (sentenceCount < 5) {
+        if (metrics.getSentenceCount() < 5) {
             throw new RuntimeException("Review must contain at least 5 sentences");
         }
 
+        if (request.getRating() != null && (request.getRating() < 1 || request.getRating() > 5)) {
+            throw new RuntimeException("Rating must be between 1 and 5");
+        }
+    }
+
+    /**
+     * Persists an already validated review. A non-null {@code autoRejectionReason} (from automatic screening)
+     * stores it as REJECTED so moderators still see it in the rejected list.
+     */
+    @Transactional
+    public ReviewResponse createReview(String username, ReviewRequest request, TextMetrics metrics,
+                                       String autoRejectionReason) {
+        User user = userRepository.findByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+
+        UserSubscription subscription = subscriptionRepository.findById(request.getSubscriptionId())
+                .orElseThrow(() -> new RuntimeException("Subscription not found"));
+
+        if (!subscription.getUser().getId().equals(user.getId())) {
+            throw new RuntimeException("Unauthorized");
+        }
+
         Review review = new Review();
         review.setUser(user);
         review.setSubscription(subscription);
@@ -85,18 +139,33 @@ public class ReviewService {
         review.setPublicationDate(request.getPublicationDate());
         review.setArticleName(request.getArticleName());
         review.setAuthorLastName(request.getAuthorLastName());
-        review.setContent(content);
-        review.setWordCount(wordCount);
-        review.setSentenceCount(sentenceCount);
-        review.setStatus(ReviewStatus.PENDING);
+        review.setContent(request.getContent());
+        review.setWordCount(metrics.getWordCount());
+        review.setSentenceCount(metrics.getSentenceCount());
+        review.setRating(request.getRating());
+        if (autoRejectionReason == null) {
+            review.setStatus(ReviewStatus.PENDING);
+        } else {
+            review.setStatus(ReviewStatus.REJECTED);
+            review.setRejectionReason(autoRejectionReason);
+        }
         review.setSubmittedDate(LocalDate.now());
 
-        return reviewRepository.save(review);
+        // Flag lightly edited resubmissions; indexed only once this transaction commits
+        int[] signature = duplicateIndex.signature(request.getContent());
+        duplicateIndex.findNearDuplicate(signature)
+                .ifPresent(match -> review.setFlaggedDuplicateOf(match.getDocId()));
+
+        Review saved = reviewRepository.save(review);
+        eventPublisher.publishEvent(new ReviewSubmittedEvent(saved.getId(), signature));
+        return ReviewResponse.from(saved);
     }
 
+    @Timed("readsphere.reviews.approve")
     @Transactional
-    public Review approveReview(Long reviewId) {
-        Review review = reviewRepository.findById(reviewId)
+    public ReviewResponse approveReview(Long reviewId) {
+        // Locked before the PENDING check, so the aggregates and points are only applied once
+        Review review = reviewRepository.findByIdForUpdate(reviewId)
                 .orElseThrow(() -> new RuntimeException("Review not found"));
 
         if (review.getStatus() != ReviewStatus.PENDING) {
@@ -104,17 +173,20 @@ public class ReviewService {
         }
 
         review.setStatus(ReviewStatus.APPROVED);
-        
-        // Award 200 points for approved review
-        review.setPointsAwarded(200);
-        userService.addPoints(review.getUser().getUsername(), 200);
+        ratingService.onReviewTransition(review.getPublication().getId(), review.getRating(),
+                ReviewStatus.PENDING, ReviewStatus.APPROVED);
+
+        // Award 200 points for approved review (by id, so the lazy user is never loaded)
+        review.setPointsAwarded(APPROVAL_POINTS);
+        pointsService.credit(review.getUser().getId(), APPROVAL_POINTS, PointsReason.REVIEW_APPROVED,
+                "REVIEW-" + review.getId());
 
-        return reviewRepository.save(review);
+        return ReviewResponse.from(reviewRepository.save(review));
     }
 
     @Transactional
-    public Review rejectReview(Long reviewId, String reason) {
-        Review review = reviewRepository.findById(reviewId)
+    public ReviewResponse rejectReview(Long reviewId, String reason) {
+        Review review = reviewRepository.findByIdForUpdate(reviewId)
                 .orElseThrow(() -> new RuntimeException("Review not found"));
 
         if (review.getStatus() != ReviewStatus.PENDING) {
@@ -124,6 +196,6 @@ public class ReviewService {
         review.setStatus(ReviewStatus.REJECTED);
         review.setRejectionReason(reason);
 
-        return reviewRepository.save(review);
+        return ReviewResponse.from(reviewRepository.save(review));
     }
 }
@@ -0,0 +1,106 @@
+package com.readsphere.service;
+
+import com.readsphere.dto.SubscriptionLifecycleResult;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Moves subscriptions past their end date on: the rest become EXPIRED, auto-renewing ones are billed for a
+ * new one-year term. A renewal is recorded the way checkout records a card purchase: the row's term becomes
+ * the new one, with its own start date and the publication's current price and issues per year, and no
+ * points are awarded. Cancellation refunds are computed from that current term alone.
+ * Works through them in chunks, each a single set-based UPDATE in its own short transaction; no entity is
+ * loaded. Rows are claimed in (end_date, id) order from a partial index with FOR UPDATE SKIP LOCKED, so the
+ * job never waits on a subscription a user is cancelling and several instances can run it at once. It is
+ * idempotent and restartable: a processed row is either no longer ACTIVE or ends after the run date, so it
+ * is never billed twice, and an interrupted run just continues next time.
+ */
+@Component
+public class SubscriptionLifecycleJob {
+
+    private static final Logger log = LoggerFactory.getLogger(SubscriptionLifecycleJob.class);
+
+    // A renewed term starts where the old one ended, unless that would already be over (the job was not run
+    // for over a year): then it starts on the run date, so a lapsed subscription is billed once, not per
+    // missed year
+    private static final String PROCESS_CHUNK_SQL =
+            "WITH due AS ("
+            + "  SELECT id, CASE WHEN end_date + INTERVAL '1 year' > ? THEN end_date ELSE ? END AS term_start"
+            + "  FROM user_subscriptions"
+            + "  WHERE status = 'ACTIVE' AND end_date < ?"
+            + "  ORDER BY end_date, id LIMIT ?"
+            + "  FOR UPDATE SKIP LOCKED"
+            + ") "
+            + "UPDATE user_subscriptions s SET"
+            + "  status = CASE WHEN s.auto_renew THEN 'ACTIVE' ELSE 'EXPIRED' END,"
+            + "  start_date = CASE WHEN s.auto_renew THEN due.term_start ELSE s.start_date END,"
+            + "  end_date = CASE WHEN s.auto_renew THEN (due.term_start + INTERVAL '1 year')::date ELSE s.end_date END,"
+            + "  price = CASE WHEN s.auto_renew THEN p.price ELSE s.price END,"
+            + "  issues_per_year = CASE WHEN s.auto_renew THEN p.issues_per_year ELSE s.issues_per_year END,"
+            + "  points_awarded = CASE WHEN s.auto_renew THEN 0 ELSE s.points_awarded END,"
+            + "  paid_with_points = CASE WHEN s.auto_renew THEN FALSE ELSE s.paid_with_points END,"
+            + "  renewal_count = s.renewal_count + CASE WHEN s.auto_renew THEN 1 ELSE 0 END "
+            + "FROM due, publications p WHERE s.id = due.id AND p.id = s.publication_id "
+            + "RETURNING s.auto_renew";
+
+    @Value("${subscriptions.lifecycle.chunk-size:1000}")
+    private int chunkSize;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate chunkTransaction;
+
+    @PostConstruct
+    void init() {
+        chunkTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(initialDelayString = "${subscriptions.lifecycle.initial-delay-ms:60000}",
+            fixedDelayString = "${subscriptions.lifecycle.interval-ms:3600000}")
+    public SubscriptionLifecycleResult run() {
+        long start = System.nanoTime();
+        // Fixed for the whole run; every renewed term ends after it, so no row is picked up twice
+        LocalDate today = LocalDate.now();
+        int expired = 0;
+        int renewed = 0;
+        int chunks = 0;
+        int processed;
+        // A short chunk means nothing unlocked is left; rows skipped as locked are retried on the next run
+        do {
+            List<Boolean> autoRenewed = chunkTransaction.execute(status -> jdbcTemplate.query(
+                    PROCESS_CHUNK_SQL, (rs, rowNum) -> rs.getBoolean(1), today, today, today, chunkSize));
+            processed = autoRenewed == null ? 0 : autoRenewed.size();
+            for (int i = 0; i < processed; i++) {
+                if (autoRenewed.get(i)) {
+                    renewed++;
+                } else {
+                    expired++;
+                }
+            }
+            chunks++;
+        } while (processed == chunkSize);
+
+        SubscriptionLifecycleResult result = new SubscriptionLifecycleResult(expired, renewed, chunks,
+                (System.nanoTime() - start) / 1_000_000);
+        if (expired > 0 || renewed > 0) {
+            log.info("Subscription lifecycle: {} expired, {} renewed in {} chunks, {} ms",
+                    expired, renewed, chunks, result.getMillis());
+        }
+        return result;
+    }
+}
@@ -1,18 +1,25 @@
 package com.readsphere.service;
 
+import com.readsphere.cache.PublicationCatalogCache;
+import com.readsphere.dto.PublicationResponse;
 import com.readsphere.dto.PurchaseRequest;
+import com.readsphere.dto.SubscriptionResponse;
+import com.readsphere.id.IdGenerator;
 import com.readsphere.model.*;
 import com.readsphere.repository.PublicationRepository;
 import com.readsphere.repository.UserRepository;
 import com.readsphere.repository.UserSubscriptionRepository;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.UUID;
 
 @Service
 public class SubscriptionService {
@@ -27,64 +34,111 @@ public class SubscriptionService {
     private PublicationRepository publicationRepository;
 
     @Autowired
-    private UserService userService;
+    private PointsService pointsService;
 
-    public List<UserSubscription> getUserSubscriptions(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        return subscriptionRepository.findByUserId(user.getId());
+    @Autowired
+    private PublicationCatalogCache catalogCache;
+
+    @Autowired
+    private IdGenerator idGenerator;
+
+    public static final int MAX_CHECKOUT_ITEMS = 20;
+
+    public List<SubscriptionResponse> getUserSubscriptions(String username) {
+        return subscriptionRepository.findResponsesByUsername(username);
     }
 
+    @Timed("readsphere.subscriptions.purchase")
     @Transactional
-    public UserSubscription purchaseSubscription(String username, PurchaseRequest request) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
+    public SubscriptionResponse purchaseSubscription(String username, PurchaseRequest request) {
+        return checkout(username, List.of(request)).get(0);
+    }
 
-        Publication publication = publicationRepository.findById(request.getPublicationId())
-                .orElseThrow(() -> new RuntimeException("Publication not found"));
+    /**
+     * Purchases every item in one transaction: the user id is the only lookup, publications come from the
+     * catalog cache, all points redemptions and awards are applied in a single conditional update, and the
+     * subscriptions reference user and publication by id so no entity is loaded just to be linked.
+     */
+    @Timed("readsphere.subscriptions.checkout")
+    @Transactional
+    public List<SubscriptionResponse> checkout(String username, List<PurchaseRequest> requests) {
+        if (requests == null || requests.isEmpty() || requests.size() > MAX_CHECKOUT_ITEMS) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
+                    "A checkout must contain between 1 and " + MAX_CHECKOUT_ITEMS + " items");
+        }
 
-        // Calculate points and price
-        double price = publication.getPrice();
-        int pointsToUse = request.getPointsToUse() != null ? request.getPointsToUse() : 0;
-        boolean paidWithPoints = false;
+        Long userId = userRepository.findIdByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        User userRef = userRepository.getReferenceById(userId);
+
+        List<PublicationResponse> publications = new ArrayList<>(requests.size());
+        List<UserSubscription> subscriptions = new ArrayList<>(requests.size());
+        List<PointsDelta> pointsDeltas = new ArrayList<>();
+
+        for (PurchaseRequest request : requests) {
+            PublicationResponse publication = catalogCache.getById(request.getPublicationId())
+                    .orElseThrow(() -> new RuntimeException("Publication not found"));
+            String subscriptionNumber = generateSubscriptionNumber();
+
+            // Calculate points and price
+            double price = publication.getPrice();
+            int pointsToUse = request.getPointsToUse() != null ? request.getPointsToUse() : 0;
+            if (pointsToUse < 0) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "pointsToUse must not be negative");
+            }
+            boolean paidWithPoints = false;
 
-        if ("points".equals(request.getPaymentMethod()) || "mixed".equals(request.getPaymentMethod())) {
-            if (user.getPoints() < pointsToUse) {
-                throw new RuntimeException("Insufficient points");
+            if ("points".equals(request.getPaymentMethod()) || "mixed".equals(request.getPaymentMethod())) {
+                pointsDeltas.add(PointsDelta.debit(userId, pointsToUse, PointsReason.PURCHASE_REDEMPTION,
+                        subscriptionNumber));
+                price -= (pointsToUse / 100.0); // 100 points = $1
+                paidWithPoints = true;
+            }
+
+            // Calculate points to award (10% for magazines, 20% for newspapers)
+            int pointsToAward = 0;
+            if (!paidWithPoints || "mixed".equals(request.getPaymentMethod())) {
+                double pointsRate = publication.getType() == PublicationType.MAGAZINE ? 0.10 : 0.20;
+                pointsToAward = (int) (price * pointsRate * 100); // Convert to points
+                pointsDeltas.add(PointsDelta.credit(userId, pointsToAward, PointsReason.PURCHASE_AWARD,
+                        subscriptionNumber));
             }
-            userService.subtractPoints(username, pointsToUse);
-            price -= (pointsToUse / 100.0); // 100 points = $1
-            paidWithPoints = true;
-        }
 
-        // Calculate points to award (10% for magazines, 20% for newspapers)
-        int pointsToAward = 0;
-        if (!paidWithPoints || "mixed".equals(request.getPaymentMethod())) {
-            double pointsRate = publication.getType() == PublicationType.MAGAZINE ? 0.10 : 0.20;
-            pointsToAward = (int) (price * pointsRate * 100); // Convert to points
-            userService.addPoints(username, pointsToAward);
+            // Create subscription
+            UserSubscription subscription = new UserSubscription();
+            subscription.setUser(userRef);
+            subscription.setPublication(publicationRepository.getReferenceById(publication.getId()));
+            subscription.setSubscriptionNumber(subscriptionNumber);
+            subscription.setOrderNumber(generateOrderNumber());
+            subscription.setStartDate(LocalDate.now());
+            subscription.setEndDate(LocalDate.now().plusYears(1));
+            subscription.setStatus(SubscriptionStatus.ACTIVE);
+            subscription.setPrice(publication.getPrice());
+            subscription.setIssuesPerYear(publication.getIssuesPerYear());
+            subscription.setPointsAwarded(pointsToAward);
+            subscription.setPaidWithPoints(paidWithPoints);
+            subscription.setAutoRenew(Boolean.TRUE.equals(request.getAutoRenew()));
+
+            publications.add(publication);
+            subscriptions.add(subscription);
         }
 
-        // Create subscription
-        UserSubscription subscription = new UserSubscription();
-        subscription.setUser(user);
-        subscription.setPublication(publication);
-        subscription.setSubscriptionNumber(generateSubscriptionNumber());
-        subscription.setOrderNumber(generateOrderNumber());
-        subscription.setStartDate(LocalDate.now());
-        subscription.setEndDate(LocalDate.now().plusYears(1));
-        subscription.setStatus(SubscriptionStatus.ACTIVE);
-        subscription.setPrice(publication.getPrice());
-        subscription.setIssuesPerYear(publication.getIssuesPerYear());
-        subscription.setPointsAwarded(pointsToAward);
-        subscription.setPaidWithPoints(paidWithPoints);
-
-        return subscriptionRepository.save(subscription);
+        // Redemptions and awards for the whole cart land in one conditional update; fails atomically if the
+        // balance is too low, before any subscription is written
+        pointsService.post(pointsDeltas);
+
+        List<UserSubscription> saved = subscriptionRepository.saveAll(subscriptions);
+        List<SubscriptionResponse> responses = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            responses.add(SubscriptionResponse.from(saved.get(i), publications.get(i)));
+        }
+        return responses;
     }
 
     @Transactional
     public void cancelSubscription(Long subscriptionId, String username) {
-        UserSubscription subscription = subscriptionRepository.findById(subscriptionId)
+        // Locked so the lifecycle job cannot expire or renew it underneath this cancellation
+        UserSubscription subscription = subscriptionRepository.findByIdForUpdate(subscriptionId)
                 .orElseThrow(() -> new RuntimeException("Subscription not found"));
 
         User user = userRepository.findByUsername(username)
@@ -98,10 +152,14 @@ public class SubscriptionService {
             throw new RuntimeException("Subscription is not active");
         }
 
-        // Calculate pro-rated refund
+        // Pro-rated over the current term only: renewals replace start date and price with the renewed term's
+        double refundAmount = 0.0;
         long totalDays = ChronoUnit.DAYS.between(subscription.getStartDate(), subscription.getEndDate());
-        long remainingDays = ChronoUnit.DAYS.between(LocalDate.now(), subscription.getEndDate());
-        double refundAmount = (remainingDays / (double) totalDays) * subscription.getPrice();
+        if (totalDays > 0) {
+            long remainingDays = Math.min(Math.max(
+                    ChronoUnit.DAYS.between(LocalDate.now(), subscription.getEndDate()), 0), totalDays);
+            refundAmount = (remainingDays / (double) totalDays) * subscription.getPrice();
+        }
 
         subscription.setStatus(SubscriptionStatus.CANCELLED);
         subscription.setCancelledDate(LocalDate.now());
@@ -109,22 +167,27 @@ public class SubscriptionService {
 
         // Deduct points if any were awarded
         if (subscription.getPointsAwarded() > 0) {
-            user.setPoints(Math.max(0, user.getPoints() - subscription.getPointsAwarded()));
-            userRepository.save(user);
+            pointsService.clawBack(user.getId(), subscription.getPointsAwarded(),
+                    PointsReason.SUBSCRIPTION_CANCELLED, subscription.getSubscriptionNumber());
         }
 
         subscriptionRepository.save(subscription);
     }
 
+    @Transactional
+    public void setAutoRenew(Long subscriptionId, String username, boolean enabled) {
+        Long userId = userRepository.findIdByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found"));
+        if (subscriptionRepository.updateAutoRenew(subscriptionId, userId, enabled) == 0) {
+            throw new RuntimeException("Subscription not found or not active");
+        }
+    }
+
     private String generateSubscriptionNumber() {
-        String subNum;
-        do {
-            subNum = "SUB-" + UUID.randomUUID().toString().substring(0, 8).toUpperCase();
-        } while (subscriptionRepository.existsBySubscriptionNumber(subNum));
-        return subNum;
+        return idGenerator.nextKey("SUB-");
     }
 
     private String generateOrderNumber() {
-        return "ORD-" + UUID.randomUUID().toString().substring(0, 12).toUpperCase();
+        return idGenerator.nextKey("ORD-");
     }
 }
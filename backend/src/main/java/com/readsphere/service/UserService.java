@@ -1,22 +1,34 @@
 package com.readsphere.service;
 
+import com.readsphere.dto.PointsTransactionResponse;
 import com.readsphere.dto.UserResponse;
+import com.readsphere.model.PointsReason;
 import com.readsphere.model.User;
+import com.readsphere.repository.PointsTransactionRepository;
 import com.readsphere.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 @Service
 public class UserService {
 
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private PointsService pointsService;
+
+    @Autowired
+    private PointsTransactionRepository pointsTransactionRepository;
+
     public UserResponse getUserByUsername(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new RuntimeException("User not found"));
-        return mapToUserResponse(user);
+        return UserResponse.from(user);
     }
 
     @Transactional
@@ -35,43 +47,25 @@ public class UserService {
         user.setNameOnCard(request.getNameOnCard());
 
         user = userRepository.save(user);
-        return mapToUserResponse(user);
+        return UserResponse.from(user);
     }
 
     @Transactional
     public void addPoints(String username, Integer points) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        user.setPoints(user.getPoints() + points);
-        userRepository.save(user);
+        pointsService.credit(findUserId(username), points, PointsReason.MANUAL_ADJUSTMENT, null);
     }
 
     @Transactional
     public void subtractPoints(String username, Integer points) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new RuntimeException("User not found"));
-        if (user.getPoints() < points) {
-            throw new RuntimeException("Insufficient points");
-        }
-        user.setPoints(user.getPoints() - points);
-        userRepository.save(user);
+        pointsService.debit(findUserId(username), points, PointsReason.MANUAL_ADJUSTMENT, null);
     }
 
-    private UserResponse mapToUserResponse(User user) {
-        UserResponse response = new UserResponse();
-        response.setId(user.getId());
-        response.setUsername(user.getUsername());
-        response.setEmail(user.getEmail());
-        response.setFirstName(user.getFirstName());
-        response.setLastName(user.getLastName());
-        response.setMiddleInitial(user.getMiddleInitial());
-        response.setAddress(user.getAddress());
-        response.setCardNumber(user.getCardNumber());
-        response.setExpiryDate(user.getExpiryDate());
-        response.setCvv(user.getCvv());
-        response.setNameOnCard(user.getNameOnCard());
-        response.setPoints(user.getPoints());
-        response.setRole(user.getRole());
-        return response;
+    public List<PointsTransactionResponse> getPointsHistory(String username, int limit) {
+        return pointsTransactionRepository.findLatestByUsername(username, Limit.of(limit));
+    }
+
+    private Long findUserId(String username) {
+        return userRepository.findIdByUsername(username)
+                .orElseThrow(() -> new RuntimeException("User not found"));
     }
 }
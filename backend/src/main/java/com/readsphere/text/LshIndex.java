@@ -0,0 +1,248 @@
+package com.readsphere.text;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Locality-sensitive hashing index over {@link MinHash} signatures: 16 bands of 4 rows. Two documents
+ * become candidates when any band matches exactly, which happens with probability 1 - (1 - s^4)^16 for
+ * Jaccard similarity s (about 0.98 at s = 0.8, 0.05 at s = 0.3). Candidates are confirmed against the full
+ * signature, so a lookup touches a handful of documents regardless of corpus size. Band buckets live in
+ * primitive open-addressing tables to keep the per-document footprint to a few hundred bytes.
+ */
+public class LshIndex {
+
+    public static final int BANDS = 16;
+    public static final int ROWS = MinHash.NUM_HASHES / BANDS;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, int[]> signatures = new HashMap<>();
+    private final BandTable[] bands = new BandTable[BANDS];
+
+    public LshIndex() {
+        for (int band = 0; band < BANDS; band++) {
+            bands[band] = new BandTable();
+        }
+    }
+
+    public void put(long docId, int[] signature) {
+        lock.writeLock().lock();
+        try {
+            int[] previous = signatures.put(docId, signature);
+            if (previous != null) {
+                if (Arrays.equals(previous, signature)) {
+                    return;
+                }
+                // Re-indexed with new content: move the document out of its old buckets into the new ones
+                unlink(docId, previous);
+            }
+            for (int band = 0; band < BANDS; band++) {
+                bands[band].add(bandKey(signature, band), docId);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long docId) {
+        lock.writeLock().lock();
+        try {
+            int[] previous = signatures.remove(docId);
+            if (previous != null) {
+                unlink(docId, previous);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return signatures.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Most similar indexed document with estimated similarity >= minSimilarity
+    public Optional<Match> findMostSimilar(int[] signature, double minSimilarity) {
+        lock.readLock().lock();
+        try {
+            Set<Long> seen = new HashSet<>();
+            Match best = null;
+            for (int band = 0; band < BANDS; band++) {
+                BandTable table = bands[band];
+                for (int entry = table.head(bandKey(signature, band)); entry >= 0; entry = table.next[entry]) {
+                    long candidate = table.docIds[entry];
+                    if (!seen.add(candidate)) {
+                        continue;
+                    }
+                    int[] other = signatures.get(candidate);
+                    if (other == null) {
+                        continue;
+                    }
+                    double similarity = MinHash.similarity(signature, other);
+                    if (similarity >= minSimilarity && (best == null || similarity > best.similarity
+                            || (similarity == best.similarity && candidate < best.docId))) {
+                        best = new Match(candidate, similarity);
+                    }
+                }
+            }
+            return Optional.ofNullable(best);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void unlink(long docId, int[] signature) {
+        for (int band = 0; band < BANDS; band++) {
+            bands[band].remove(bandKey(signature, band), docId);
+        }
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            key = MinHash.mix(key * 0x100000001B3L + signature[row]);
+        }
+        return key;
+    }
+
+    public static final class Match {
+        private final long docId;
+        private final double similarity;
+
+        public Match(long docId, double similarity) {
+            this.docId = docId;
+            this.similarity = similarity;
+        }
+
+        public long getDocId() { return docId; }
+        public double getSimilarity() { return similarity; }
+    }
+
+    // Open-addressing map from band key to a singly linked list of entries stored in parallel arrays. Removed
+    // entries go on a free list for reuse; a bucket left empty keeps its slot until a new key or a rehash takes it.
+    private static final class BandTable {
+        private long[] keys = new long[64];
+        private int[] heads = new int[64];
+        private boolean[] used = new boolean[64];
+        private int size;
+
+        private long[] docIds = new long[64];
+        private int[] next = new int[64];
+        private int entries;
+        private int freeHead = -1;
+
+        private BandTable() {
+            Arrays.fill(heads, -1);
+        }
+
+        private int head(long key) {
+            int mask = keys.length - 1;
+            for (int slot = (int) key & mask; used[slot]; slot = (slot + 1) & mask) {
+                if (keys[slot] == key) {
+                    return heads[slot];
+                }
+            }
+            return -1;
+        }
+
+        private void add(long key, long docId) {
+            if ((size + 1) * 4 > keys.length * 3) {
+                rehash(keys.length * 2);
+            }
+            int mask = keys.length - 1;
+            int slot = (int) key & mask;
+            int emptied = -1;
+            while (used[slot] && keys[slot] != key) {
+                if (emptied < 0 && heads[slot] < 0) {
+                    emptied = slot;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (!used[slot]) {
+                if (emptied >= 0) {
+                    slot = emptied;
+                } else {
+                    used[slot] = true;
+                    size++;
+                }
+                keys[slot] = key;
+                heads[slot] = -1;
+            }
+            int entry = newEntry();
+            docIds[entry] = docId;
+            next[entry] = heads[slot];
+            heads[slot] = entry;
+        }
+
+        private void remove(long key, long docId) {
+            int mask = keys.length - 1;
+            int slot = (int) key & mask;
+            while (used[slot] && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            if (!used[slot]) {
+                return;
+            }
+            int previous = -1;
+            for (int entry = heads[slot]; entry >= 0; previous = entry, entry = next[entry]) {
+                if (docIds[entry] == docId) {
+                    if (previous < 0) {
+                        heads[slot] = next[entry];
+                    } else {
+                        next[previous] = next[entry];
+                    }
+                    next[entry] = freeHead;
+                    freeHead = entry;
+                    return;
+                }
+            }
+        }
+
+        private int newEntry() {
+            if (freeHead >= 0) {
+                int entry = freeHead;
+                freeHead = next[entry];
+                return entry;
+            }
+            if (entries == docIds.length) {
+                docIds = Arrays.copyOf(docIds, entries * 2);
+                next = Arrays.copyOf(next, entries * 2);
+            }
+            return entries++;
+        }
+
+        private void rehash(int capacity) {
+            long[] oldKeys = keys;
+            int[] oldHeads = heads;
+            boolean[] oldUsed = used;
+            keys = new long[capacity];
+            heads = new int[capacity];
+            used = new boolean[capacity];
+            int mask = capacity - 1;
+            size = 0;
+            for (int i = 0; i < oldKeys.length; i++) {
+                // Emptied buckets are dropped here
+                if (oldUsed[i] && oldHeads[i] >= 0) {
+                    int slot = (int) oldKeys[i] & mask;
+                    while (used[slot]) {
+                        slot = (slot + 1) & mask;
+                    }
+                    used[slot] = true;
+                    keys[slot] = oldKeys[i];
+                    heads[slot] = oldHeads[i];
+                    size++;
+                }
+            }
+        }
+    }
+}
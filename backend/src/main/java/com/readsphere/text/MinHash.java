@@ -0,0 +1,107 @@
+package com.readsphere.text;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * MinHash signatures over word 3-shingles. Two texts' signatures agree in roughly the fraction of
+ * positions equal to the Jaccard similarity of their shingle sets, so lightly edited copies score high
+ * while unrelated reviews on the same topic do not. Words are lower-cased runs of letters and digits and
+ * are hashed in place, so the only allocations are the word-hash buffer and the signature itself.
+ */
+public final class MinHash {
+
+    public static final int NUM_HASHES = 64;
+    static final int SHINGLE_SIZE = 3;
+
+    // Multiply-shift hash family; fixed seed so signatures are comparable across instances and restarts
+    private static final long[] MULTIPLIERS = new long[NUM_HASHES];
+    private static final long[] OFFSETS = new long[NUM_HASHES];
+
+    static {
+        SplittableRandom random = new SplittableRandom(0x5EED_CAFE_F00DL);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            MULTIPLIERS[i] = random.nextLong() | 1L;
+            OFFSETS[i] = random.nextLong();
+        }
+    }
+
+    private MinHash() {
+    }
+
+    public static int[] signature(CharSequence text) {
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+
+        int[] words = wordHashes(text);
+        int count = words[0];
+        if (count == 0) {
+            return signature;
+        }
+        // Texts shorter than a shingle are treated as a single shingle of all their words
+        int shingles = Math.max(1, count - SHINGLE_SIZE + 1);
+        for (int start = 0; start < shingles; start++) {
+            long shingle = 0;
+            for (int j = start; j < Math.min(count, start + SHINGLE_SIZE); j++) {
+                shingle = shingle * 0x9E3779B97F4A7C15L + words[j + 1];
+            }
+            shingle = mix(shingle);
+            for (int i = 0; i < NUM_HASHES; i++) {
+                int hash = (int) ((MULTIPLIERS[i] * shingle + OFFSETS[i]) >>> 32);
+                if (hash < signature[i]) {
+                    signature[i] = hash;
+                }
+            }
+        }
+        return signature;
+    }
+
+    // Fraction of agreeing positions, an estimate of the Jaccard similarity of the shingle sets
+    public static double similarity(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / NUM_HASHES;
+    }
+
+    // Index 0 holds the word count, followed by one hash per word
+    private static int[] wordHashes(CharSequence text) {
+        int length = text == null ? 0 : text.length();
+        int[] hashes = new int[Math.max(16, length / 5)];
+        int count = 0;
+        int hash = 0;
+        boolean inWord = false;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                hash = 31 * hash + Character.toLowerCase(c);
+                inWord = true;
+            } else if (inWord) {
+                if (count + 2 > hashes.length) {
+                    hashes = Arrays.copyOf(hashes, hashes.length * 2);
+                }
+                hashes[++count] = hash;
+                hash = 0;
+                inWord = false;
+            }
+        }
+        if (inWord) {
+            if (count + 2 > hashes.length) {
+                hashes = Arrays.copyOf(hashes, hashes.length + 1);
+            }
+            hashes[++count] = hash;
+        }
+        hashes[0] = count;
+        return hashes;
+    }
+
+    // SplitMix64 finalizer
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,157 @@
+package com.readsphere.text;
+
+/**
+ * Word, sentence, character and syllable counts computed in one pass over a {@link CharSequence}, with no
+ * regexes and no intermediate strings.
+ * <ul>
+ *   <li>A word is a maximal run of non-whitespace characters.</li>
+ *   <li>A sentence is a stretch of text containing a letter or digit, ended by a run of {@code . ! ?}
+ *       followed by whitespace, a closing quote/bracket or the end of the text, or by the end of the text
+ *       itself. "Wait..." is one sentence, and a dot inside a word ("3.5", "U.S") does not end one;
+ *       abbreviations followed by a space do.</li>
+ *   <li>Syllables are estimated per word from vowel groups (a trailing silent "e" is dropped), which is
+ *       accurate enough for readability scores.</li>
+ * </ul>
+ */
+public final class TextMetrics {
+
+    private final int characterCount;
+    private final int letterCount;
+    private final int wordCount;
+    private final int sentenceCount;
+    private final int syllableCount;
+
+    private TextMetrics(int characterCount, int letterCount, int wordCount, int sentenceCount, int syllableCount) {
+        this.characterCount = characterCount;
+        this.letterCount = letterCount;
+        this.wordCount = wordCount;
+        this.sentenceCount = sentenceCount;
+        this.syllableCount = syllableCount;
+    }
+
+    public static TextMetrics analyze(CharSequence text) {
+        int length = text == null ? 0 : text.length();
+        int letters = 0;
+        int words = 0;
+        int sentences = 0;
+        int syllables = 0;
+
+        boolean inWord = false;
+        // Sentence state: content seen since the last boundary, and whether we're inside a terminator run
+        boolean sentenceHasContent = false;
+        boolean inTerminator = false;
+        // Syllable state for the current word
+        int wordSyllables = 0;
+        boolean previousVowel = false;
+        char previousLetter = 0;
+
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+
+            if (Character.isWhitespace(c)) {
+                if (inWord) {
+                    syllables += finishWord(wordSyllables, previousLetter);
+                    inWord = false;
+                }
+                if (inTerminator && sentenceHasContent) {
+                    sentences++;
+                    sentenceHasContent = false;
+                }
+                inTerminator = false;
+                continue;
+            }
+
+            if (!inWord) {
+                inWord = true;
+                words++;
+                wordSyllables = 0;
+                previousVowel = false;
+                previousLetter = 0;
+            }
+
+            if (c == '.' || c == '!' || c == '?') {
+                inTerminator = true;
+                previousVowel = false;
+                continue;
+            }
+
+            if (inTerminator && !isClosingPunctuation(c)) {
+                // "3.5", "e.g": the terminator was inside a word, so the sentence goes on
+                inTerminator = false;
+            }
+
+            if (Character.isLetterOrDigit(c)) {
+                sentenceHasContent = true;
+            }
+            if (Character.isLetter(c)) {
+                letters++;
+                char lower = Character.toLowerCase(c);
+                boolean vowel = isVowel(lower);
+                if (vowel && !previousVowel) {
+                    wordSyllables++;
+                }
+                previousVowel = vowel;
+                previousLetter = lower;
+            } else {
+                previousVowel = false;
+            }
+        }
+
+        if (inWord) {
+            syllables += finishWord(wordSyllables, previousLetter);
+        }
+        if (sentenceHasContent) {
+            sentences++;
+        }
+        return new TextMetrics(length, letters, words, sentences, syllables);
+    }
+
+    private static int finishWord(int vowelGroups, char lastLetter) {
+        if (lastLetter == 0) {
+            return 0;
+        }
+        // Silent trailing "e" ("make"), but every word has at least one syllable
+        if (lastLetter == 'e' && vowelGroups > 1) {
+            vowelGroups--;
+        }
+        return Math.max(1, vowelGroups);
+    }
+
+    private static boolean isVowel(char c) {
+        return c == 'a' || c == 'e' || c == 'i' || c == 'o' || c == 'u' || c == 'y';
+    }
+
+    private static boolean isClosingPunctuation(char c) {
+        return c == '"' || c == '\'' || c == ')' || c == ']' || c == '\u201D' || c == '\u2019';
+    }
+
+    public int getCharacterCount() { return characterCount; }
+    public int getLetterCount() { return letterCount; }
+    public int getWordCount() { return wordCount; }
+    public int getSentenceCount() { return sentenceCount; }
+    public int getSyllableCount() { return syllableCount; }
+
+    public double getAverageWordsPerSentence() {
+        return sentenceCount == 0 ? 0.0 : (double) wordCount / sentenceCount;
+    }
+
+    public double getAverageSyllablesPerWord() {
+        return wordCount == 0 ? 0.0 : (double) syllableCount / wordCount;
+    }
+
+    // Flesch reading ease: higher is easier, 60-70 is plain English
+    public double getFleschReadingEase() {
+        if (wordCount == 0) {
+            return 0.0;
+        }
+        return 206.835 - 1.015 * getAverageWordsPerSentence() - 84.6 * getAverageSyllablesPerWord();
+    }
+
+    // Flesch-Kincaid grade level (US school grade)
+    public double getFleschKincaidGrade() {
+        if (wordCount == 0) {
+            return 0.0;
+        }
+        return 0.39 * getAverageWordsPerSentence() + 11.8 * getAverageSyllablesPerWord() - 15.59;
+    }
+}
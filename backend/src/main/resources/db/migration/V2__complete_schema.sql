@@ -0,0 +1,88 @@
+-- Full schema for every entity. Idempotent so it applies both to fresh databases (where V1 only created
+-- a bare publications table) and to databases Hibernate's ddl-auto=update built before Flyway took over
+-- (those are baselined at version 1, see spring.flyway.baseline-on-migrate).
+
+CREATE TABLE IF NOT EXISTS publications (
+  id BIGSERIAL PRIMARY KEY,
+  title VARCHAR(1024) NOT NULL
+);
+
+ALTER TABLE publications ADD COLUMN IF NOT EXISTS type VARCHAR(255) NOT NULL;
+ALTER TABLE publications ADD COLUMN IF NOT EXISTS description VARCHAR(2000);
+ALTER TABLE publications ADD COLUMN IF NOT EXISTS price DOUBLE PRECISION NOT NULL;
+ALTER TABLE publications ADD COLUMN IF NOT EXISTS image VARCHAR(255);
+ALTER TABLE publications ADD COLUMN IF NOT EXISTS issues_per_year INTEGER NOT NULL;
+ALTER TABLE publications ADD COLUMN IF NOT EXISTS city VARCHAR(255);
+ALTER TABLE publications ADD COLUMN IF NOT EXISTS category VARCHAR(255);
+ALTER TABLE publications ADD COLUMN IF NOT EXISTS rating DOUBLE PRECISION DEFAULT 0;
+ALTER TABLE publications ADD COLUMN IF NOT EXISTS review_count INTEGER DEFAULT 0;
+ALTER TABLE publications ADD COLUMN IF NOT EXISTS rating_count INTEGER DEFAULT 0;
+ALTER TABLE publications ADD COLUMN IF NOT EXISTS featured BOOLEAN DEFAULT FALSE;
+
+CREATE TABLE IF NOT EXISTS users (
+  id BIGSERIAL PRIMARY KEY,
+  username VARCHAR(255) NOT NULL UNIQUE,
+  password VARCHAR(255) NOT NULL,
+  email VARCHAR(255) NOT NULL,
+  first_name VARCHAR(255) NOT NULL,
+  last_name VARCHAR(255) NOT NULL,
+  middle_initial VARCHAR(255),
+  address VARCHAR(255) NOT NULL,
+  card_number VARCHAR(255),
+  expiry_date VARCHAR(255),
+  cvv VARCHAR(255),
+  name_on_card VARCHAR(255),
+  points INTEGER DEFAULT 0,
+  role VARCHAR(255) DEFAULT 'USER'
+);
+
+CREATE TABLE IF NOT EXISTS user_subscriptions (
+  id BIGSERIAL PRIMARY KEY,
+  subscription_number VARCHAR(255) NOT NULL UNIQUE,
+  user_id BIGINT NOT NULL REFERENCES users (id),
+  publication_id BIGINT NOT NULL REFERENCES publications (id),
+  start_date DATE NOT NULL,
+  end_date DATE NOT NULL,
+  status VARCHAR(255) NOT NULL,
+  order_number VARCHAR(255) NOT NULL,
+  price DOUBLE PRECISION NOT NULL,
+  issues_per_year INTEGER NOT NULL,
+  points_awarded INTEGER DEFAULT 0,
+  paid_with_points BOOLEAN DEFAULT FALSE,
+  refund_amount DOUBLE PRECISION,
+  cancelled_date DATE
+);
+
+CREATE TABLE IF NOT EXISTS reviews (
+  id BIGSERIAL PRIMARY KEY,
+  user_id BIGINT NOT NULL REFERENCES users (id),
+  subscription_id BIGINT NOT NULL REFERENCES user_subscriptions (id),
+  publication_id BIGINT NOT NULL REFERENCES publications (id),
+  issue_number VARCHAR(255) NOT NULL,
+  publication_date DATE NOT NULL,
+  article_name VARCHAR(255) NOT NULL,
+  author_last_name VARCHAR(255) NOT NULL,
+  content VARCHAR(5000) NOT NULL,
+  word_count INTEGER NOT NULL,
+  sentence_count INTEGER NOT NULL,
+  rating INTEGER,
+  status VARCHAR(255) NOT NULL,
+  points_awarded INTEGER DEFAULT 0,
+  submitted_date DATE NOT NULL,
+  rejection_reason VARCHAR(1000),
+  flagged_duplicate_of BIGINT
+);
+
+-- Columns added after the first Hibernate-built schemas
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS rating INTEGER;
+ALTER TABLE reviews ADD COLUMN IF NOT EXISTS flagged_duplicate_of BIGINT;
+
+CREATE TABLE IF NOT EXISTS points_transactions (
+  id BIGSERIAL PRIMARY KEY,
+  user_id BIGINT NOT NULL REFERENCES users (id),
+  delta INTEGER NOT NULL,
+  balance_after INTEGER NOT NULL,
+  reason VARCHAR(255) NOT NULL,
+  reference VARCHAR(255),
+  created_at TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,34 @@
+-- Indexes for the repository queries. Each names the queries it serves; primary keys and the unique
+-- username / subscription_number constraints already cover the lookups by those columns.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+-- publications: findByCategory. No index on type: with two types findByType reads half the catalog either
+-- way, and its results are held in the Hibernate query cache
+CREATE INDEX IF NOT EXISTS idx_publications_category ON publications (category);
+-- findByFeaturedTrue: only a handful of rows are featured
+CREATE INDEX IF NOT EXISTS idx_publications_featured ON publications (id) WHERE featured;
+-- findByTitleContainingIgnoreCase renders upper(title) LIKE upper('%..%'); only trigrams can serve that
+CREATE INDEX IF NOT EXISTS idx_publications_title_trgm ON publications USING gin (upper(title) gin_trgm_ops);
+
+-- users: findByEmail, existsByEmail
+CREATE INDEX IF NOT EXISTS idx_users_email ON users (email);
+
+-- user_subscriptions: findByUserId, findByUserIdAndStatus, findResponsesByUsername (ORDER BY id)
+CREATE INDEX IF NOT EXISTS idx_user_subscriptions_user_id ON user_subscriptions (user_id, id);
+-- Foreign key side of publication deletes
+CREATE INDEX IF NOT EXISTS idx_user_subscriptions_publication_id ON user_subscriptions (publication_id);
+
+-- reviews: findByStatus, findResponsesByStatus(After) walk one status in id order
+CREATE INDEX IF NOT EXISTS idx_reviews_status_id ON reviews (status, id);
+-- findByUserId(AndStatus), findResponsesByUsername(After), existsByUserUsernameAndContent
+CREATE INDEX IF NOT EXISTS idx_reviews_user_id ON reviews (user_id, id);
+-- findByPublicationId
+CREATE INDEX IF NOT EXISTS idx_reviews_publication_id ON reviews (publication_id);
+-- findPendingModerationTargets: the moderation queue is a small slice of a large table
+CREATE INDEX IF NOT EXISTS idx_reviews_pending ON reviews (publication_id, submitted_date) WHERE status = 'PENDING';
+-- Foreign key side of subscription deletes
+CREATE INDEX IF NOT EXISTS idx_reviews_subscription_id ON reviews (subscription_id);
+
+-- points_transactions: findLatestByUsername (ORDER BY id DESC)
+CREATE INDEX IF NOT EXISTS idx_points_transactions_user_id ON points_transactions (user_id, id);
@@ -0,0 +1,21 @@
+-- Entities inserted through Hibernate now take ids from their sequence in blocks of 50 (pooled optimizer,
+-- allocationSize = 50), which is what lets their inserts be batched. The sequences behind the id columns
+-- must step by the same amount. Databases built by Hibernate have identity columns, ones built by V2
+-- serial columns; both name the sequence <table>_id_seq. Plain DEFAULT inserts stay safe: each nextval
+-- hands out a value no Hibernate block can contain.
+-- points_transactions keeps increment 1: only SQL inserts into it.
+DO $$
+DECLARE
+  id_table TEXT;
+BEGIN
+  FOREACH id_table IN ARRAY ARRAY['publications', 'users', 'user_subscriptions', 'reviews'] LOOP
+    IF EXISTS (SELECT 1 FROM information_schema.columns
+               WHERE table_schema = current_schema() AND table_name = id_table
+                 AND column_name = 'id' AND is_identity = 'YES') THEN
+      EXECUTE format('ALTER TABLE %I ALTER COLUMN id SET INCREMENT BY 50', id_table);
+    ELSE
+      EXECUTE format('ALTER SEQUENCE %s INCREMENT BY 50', pg_get_serial_sequence(id_table, 'id'));
+    END IF;
+  END LOOP;
+END
+$$;
@@ -0,0 +1,7 @@
+-- Subscription renewal state, and the index SubscriptionLifecycleJob claims due subscriptions from:
+-- only ACTIVE rows, in the (end_date, id) order it reads them
+ALTER TABLE user_subscriptions ADD COLUMN IF NOT EXISTS auto_renew BOOLEAN NOT NULL DEFAULT FALSE;
+ALTER TABLE user_subscriptions ADD COLUMN IF NOT EXISTS renewal_count INTEGER NOT NULL DEFAULT 0;
+
+CREATE INDEX IF NOT EXISTS idx_user_subscriptions_active_end
+  ON user_subscriptions (end_date, id) WHERE status = 'ACTIVE';
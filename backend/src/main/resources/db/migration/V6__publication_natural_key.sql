@@ -0,0 +1,3 @@
+-- A publication is identified by its type and title: the conflict target of the catalog import's upsert
+-- (CatalogImportService). Existing duplicates must be merged by hand before this applies.
+CREATE UNIQUE INDEX IF NOT EXISTS uq_publications_type_title ON publications (type, title);
@@ -0,0 +1,25 @@
+-- Ratings and reviews a publication came with (the seeded figures), which no review row backs. The rating
+-- aggregates are maintained as these plus approved reviews, and reconciliation recomputes them the same way.
+ALTER TABLE publications ADD COLUMN IF NOT EXISTS base_rating DOUBLE PRECISION NOT NULL DEFAULT 0;
+ALTER TABLE publications ADD COLUMN IF NOT EXISTS base_rating_count INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE publications ADD COLUMN IF NOT EXISTS base_review_count INTEGER NOT NULL DEFAULT 0;
+
+-- Databases older than V2 got rating_count as DEFAULT 0 beside a seeded rating. Every seeded review carried
+-- a rating, so the review count is the rated count there; fix rating_count first so both the backfill below
+-- and the incremental updates weigh the seeded mean correctly.
+UPDATE publications
+SET rating_count = review_count
+WHERE COALESCE(rating_count, 0) = 0 AND COALESCE(rating, 0) > 0 AND COALESCE(review_count, 0) > 0;
+
+-- Backfill: whatever the current aggregates hold beyond the approved reviews is the base. Publications an
+-- earlier reconciliation already reset to their reviews alone get an empty base.
+UPDATE publications p
+SET base_review_count = GREATEST(COALESCE(p.review_count, 0) - COALESCE(a.approved, 0), 0),
+    base_rating_count = GREATEST(COALESCE(p.rating_count, 0) - COALESCE(a.rated, 0), 0),
+    base_rating = CASE WHEN COALESCE(p.rating_count, 0) - COALESCE(a.rated, 0) <= 0 THEN 0
+      ELSE LEAST(GREATEST((COALESCE(p.rating, 0) * p.rating_count - COALESCE(a.rating_sum, 0))
+                          / (p.rating_count - COALESCE(a.rated, 0)), 0), 5) END
+FROM publications b
+LEFT JOIN (SELECT publication_id, COUNT(*) AS approved, COUNT(rating) AS rated, SUM(rating) AS rating_sum
+           FROM reviews WHERE status = 'APPROVED' GROUP BY publication_id) a ON a.publication_id = b.id
+WHERE p.id = b.id;